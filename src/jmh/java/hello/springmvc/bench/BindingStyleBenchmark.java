@@ -0,0 +1,142 @@
+package hello.springmvc.bench;
+/*
+    #. request02 바인딩 방식별 비용 비교
+    : 같은 username/age 를 받는 방식이 여러가지 => 요청 하나를 DispatcherServlet 에 직접 넘겨서 방식별로 측정
+      (HTTP 파싱/소켓 제외, 매핑 + 파라미터 바인딩 + 메시지 컨버터 + 응답 쓰기 포함)
+
+    실행: ./gradlew jmh -PjmhIncludes=BindingStyleBenchmark
+    결과: ns/op = 요청 하나 처리 시간, gc.alloc.rate.norm = 요청 하나당 할당 바이트
+
+    [참고] MockHttpServletRequest 는 파라미터 Map 이 미리 만들어져 있음
+      => 톰캣에서 파라미터를 파싱하는 비용은 빠지므로 getParameter 계열이 실제보다 약간 유리하게 나옴
+*/
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BindingStyleBenchmark {
+
+    private static final String QUERY = "username=hello&age=20";
+    private static final byte[] JSON = "{\"username\":\"hello\", \"age\":20}".getBytes(StandardCharsets.UTF_8);
+    private static final String APPLICATION_JSON = "application/json";
+
+    private DispatcherHarness harness;
+
+    @Setup
+    public void setUp() {
+        harness = DispatcherHarness.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        harness.close();
+    }
+
+    // ===== 요청 파라미터 =====
+
+    @Benchmark
+    public int servletGetParameter() {
+        return harness.dispatch(harness.get("/request-param-v1", QUERY));
+    }
+
+    @Benchmark
+    public int requestParamNamed() {
+        return harness.dispatch(harness.get("/request-param-v2", QUERY));
+    }
+
+    @Benchmark
+    public int requestParam() {
+        return harness.dispatch(harness.get("/request-param-v3", QUERY));
+    }
+
+    @Benchmark
+    public int requestParamOmitted() {
+        return harness.dispatch(harness.get("/request-param-v4", QUERY));
+    }
+
+    @Benchmark
+    public int requestParamRequired() {
+        return harness.dispatch(harness.get("/request-param-required", QUERY));
+    }
+
+    @Benchmark
+    public int requestParamDefault() {
+        return harness.dispatch(harness.get("/request-param-default", QUERY));
+    }
+
+    @Benchmark
+    public int requestParamMap() {
+        return harness.dispatch(harness.get("/request-param-map", QUERY));
+    }
+
+    @Benchmark
+    public int lazyParams() {
+        return harness.dispatch(harness.get("/request-param-map-v2", QUERY));
+    }
+
+    // ===== @ModelAttribute =====
+
+    @Benchmark
+    public int modelAttributeManual() {
+        return harness.dispatch(harness.get("/model-attribute-v0", QUERY));
+    }
+
+    @Benchmark
+    public int modelAttribute() {
+        return harness.dispatch(harness.get("/model-attribute-v1", QUERY));
+    }
+
+    @Benchmark
+    public int modelAttributeOmitted() {
+        return harness.dispatch(harness.get("/model-attribute-v2", QUERY));
+    }
+
+    @Benchmark
+    public int fastModelAttribute() {
+        return harness.dispatch(harness.get("/model-attribute-v3", QUERY));
+    }
+
+    // ===== JSON 바디 =====
+
+    @Benchmark
+    public int jsonServletCopyToString() {
+        return harness.dispatch(harness.post("/request-body-json-v1", APPLICATION_JSON, JSON));
+    }
+
+    @Benchmark
+    public int jsonRequestBodyString() {
+        return harness.dispatch(harness.post("/request-body-json-v2", APPLICATION_JSON, JSON));
+    }
+
+    @Benchmark
+    public int jsonRequestBodyObject() {
+        return harness.dispatch(harness.post("/request-body-json-v3", APPLICATION_JSON, JSON));
+    }
+
+    @Benchmark
+    public int jsonHttpEntity() {
+        return harness.dispatch(harness.post("/request-body-json-v4", APPLICATION_JSON, JSON));
+    }
+
+    @Benchmark
+    public int jsonRequestBodyEcho() {
+        return harness.dispatch(harness.post("/request-body-json-v5", APPLICATION_JSON, JSON));
+    }
+
+    @Benchmark
+    public int jsonStreaming() {
+        return harness.dispatch(harness.post("/request-body-json-stream-v1", APPLICATION_JSON, JSON));
+    }
+}
@@ -0,0 +1,96 @@
+package hello.springmvc.bench;
+/*
+    #. 응답 압축 = 줄어드는 바이트 vs 쓰는 CPU
+     payload = index(static/index.html), jsonSmall(HelloData 1건), json1000(HelloData 1000건 배열)
+     level   = gzip 압축 레벨 (1 빠름 ~ 9 작음), 톰캣 server.compression 은 기본 레벨(6)
+    ns/op = 한 응답을 압축하는 CPU 시간, 줄어든 크기는 실행 끝에 출력 (saved=...)
+    => jsonSmall 처럼 작은 응답은 헤더 때문에 오히려 커짐 = server.compression.min-response-size 로 거르는 이유
+    (brotli 는 JVM 라이브러리 없이 빌드 때 CLI 로만 만듦 => precompressStatic)
+    실행: ./gradlew jmh -PjmhIncludes=CompressionBenchmark
+*/
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springmvc.basic.HelloData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompressionBenchmark {
+
+    @Param({"index", "jsonSmall", "json1000"})
+    public String payload;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private byte[] body;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    @Setup
+    public void setUp() throws IOException {
+        body = payload(payload);
+        int compressed = gzip().length;
+        System.out.printf("%npayload=%s level=%d original=%d compressed=%d saved=%.1f%%%n",
+                payload, level, body.length, compressed, 100.0 * (body.length - compressed) / body.length);
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException {
+        out.reset();
+        try (OutputStream gzip = new LevelGzipOutputStream(out, level)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] payload(String name) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        switch (name) {
+            case "index":
+                return StreamUtils.copyToByteArray(new ClassPathResource("static/index.html").getInputStream());
+            case "jsonSmall":
+                return objectMapper.writeValueAsBytes(helloData(0));
+            case "json1000":
+                List<HelloData> list = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    list.add(helloData(i));
+                }
+                return objectMapper.writeValueAsBytes(list);
+            default:
+                throw new IllegalArgumentException(name);
+        }
+    }
+
+    private static HelloData helloData(int i) {
+        HelloData helloData = new HelloData();
+        helloData.setUsername("user" + i);
+        helloData.setAge(i % 100);
+        return helloData;
+    }
+
+    // GZIPOutputStream 은 레벨을 못 받음 => 안쪽 Deflater 레벨만 바꿈
+    private static final class LevelGzipOutputStream extends GZIPOutputStream {
+        LevelGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+}
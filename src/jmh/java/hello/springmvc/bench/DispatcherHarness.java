@@ -0,0 +1,95 @@
+package hello.springmvc.bench;
+/*
+    #. 벤치마크용 DispatcherServlet 하네스
+    : 애플리케이션을 그대로 띄우고(랜덤 포트) DispatcherServlet 빈을 꺼내서 service() 를 직접 호출
+      => MockMvc 의 결과 검증/필터 체인 비용 없이, 실제 스프링 MVC 디스패치 경로(매핑, 바인딩, 컨버터)만 측정
+      HTTP 파싱/소켓 비용은 빠짐 = 바인딩 방식끼리 비교하는 용도
+*/
+
+import hello.springmvc.SpringmvcApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import javax.servlet.ServletContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+public final class DispatcherHarness implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final DispatcherServlet dispatcherServlet;
+    private final ServletContext servletContext;
+
+    private DispatcherHarness(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.dispatcherServlet = context.getBean(DispatcherServlet.class);
+        this.servletContext = ((WebApplicationContext) context).getServletContext();
+    }
+
+    public static DispatcherHarness start(String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringmvcApplication.class)
+                .properties("server.port=0",
+                        // 톰캣이 시작할때 DispatcherServlet.init() 까지 끝내도록 = 첫 호출에 초기화 비용 X
+                        "spring.mvc.servlet.load-on-startup=1",
+                        // 핸들러의 log.info 가 측정값을 덮지 않게
+                        "logging.level.hello.springmvc=warn")
+                .properties(properties)
+                .run();
+        return new DispatcherHarness(context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /* GET uri?query = 쿼리스트링 원본과 파라미터 Map 을 둘다 채움(톰캣과 같은 상태) */
+    public MockHttpServletRequest get(String uri, String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", uri);
+        if (query != null) {
+            request.setQueryString(query);
+            for (String pair : query.split("&")) {
+                int eq = pair.indexOf('=');
+                request.addParameter(decode(pair.substring(0, eq)), decode(pair.substring(eq + 1)));
+            }
+        }
+        return request;
+    }
+
+    public MockHttpServletRequest post(String uri, String contentType, byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "POST", uri);
+        request.setContentType(contentType);
+        request.setContent(body);
+        return request;
+    }
+
+    /* 디스패치하고 응답 바디 길이를 리턴 (JMH 가 결과를 버리지 않도록 값으로 돌려줌) */
+    public int dispatch(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            dispatcherServlet.service(request, response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        if (response.getStatus() >= 400) {
+            throw new IllegalStateException(request.getRequestURI() + " -> " + response.getStatus());
+        }
+        return response.getContentAsByteArray().length;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
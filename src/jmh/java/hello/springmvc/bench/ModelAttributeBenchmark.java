@@ -0,0 +1,70 @@
+package hello.springmvc.bench;
+/*
+    #. @ModelAttribute vs @FastModelAttribute
+     a. dispatch* = DispatcherServlet 전체 경로 (/model-attribute-v1 vs /model-attribute-v3)
+     b. bind*     = 바인딩만 (ServletRequestDataBinder vs PreparedBinder)
+    실행: ./gradlew jmh -PjmhIncludes=ModelAttributeBenchmark
+    비교: ns/op(낮을수록 좋음), gc.alloc.rate.norm = 요청당 할당 바이트
+*/
+
+import hello.springmvc.basic.HelloData;
+import hello.springmvc.support.bind.PreparedBinder;
+import hello.springmvc.support.bind.PreparedBinderRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.ServletRequestDataBinder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelAttributeBenchmark {
+
+    private static final String QUERY = "username=hello&age=20";
+
+    private DispatcherHarness harness;
+    private PreparedBinder<HelloData> preparedBinder;
+    private MockHttpServletRequest bindRequest;
+
+    @Setup
+    public void setUp() {
+        harness = DispatcherHarness.start();
+        preparedBinder = harness.getBean(PreparedBinderRegistry.class).binderFor(HelloData.class);
+        bindRequest = harness.get("/model-attribute-v1", QUERY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        harness.close();
+    }
+
+    @Benchmark
+    public int dispatchModelAttribute() {
+        return harness.dispatch(harness.get("/model-attribute-v1", QUERY));
+    }
+
+    @Benchmark
+    public int dispatchFastModelAttribute() {
+        return harness.dispatch(harness.get("/model-attribute-v3", QUERY));
+    }
+
+    @Benchmark
+    public HelloData bindWebDataBinder() {
+        HelloData helloData = new HelloData();
+        new ServletRequestDataBinder(helloData, "helloData").bind(bindRequest);
+        return helloData;
+    }
+
+    @Benchmark
+    public HelloData bindPreparedBinder() {
+        return preparedBinder.bind(bindRequest);
+    }
+}
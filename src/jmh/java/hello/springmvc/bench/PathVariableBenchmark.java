@@ -0,0 +1,119 @@
+package hello.springmvc.bench;
+/*
+    #. @PathVariable Long (원래) vs @PathVariable long (PrimitivePathVariableArgumentResolver)
+     a. boxedLong     = 원래 매핑이 만든 Map<String, String> + PathVariableMethodArgumentResolver + 컨버전 서비스
+     b. primitiveLong = 트라이 매핑이 만든 UriVariables 위치에서 바로 파싱
+    요청 속성은 각 매핑으로 /mapping/users/userA/orders/100 을 한번 찾아서 만들어 두고 리졸버만 반복
+    실행: ./gradlew jmh -PjmhIncludes=PathVariableBenchmark
+*/
+
+import hello.springmvc.support.route.PrimitivePathVariableArgumentResolver;
+import hello.springmvc.support.route.TrieRequestMappingHandlerMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.DefaultDataBinderFactory;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.PathVariableMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathVariableBenchmark {
+
+    private static final String URI = "/mapping/users/userA/orders/100";
+
+    private final ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+    private final HandlerMethodArgumentResolver boxedResolver = new PathVariableMethodArgumentResolver();
+    private final HandlerMethodArgumentResolver primitiveResolver = new PrimitivePathVariableArgumentResolver();
+
+    private WebDataBinderFactory binderFactory;
+    private MethodParameter boxedParameter;
+    private MethodParameter primitiveParameter;
+    private ServletWebRequest boxedRequest;
+    private ServletWebRequest primitiveRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        binderFactory = new DefaultDataBinderFactory(initializer);
+
+        boxedParameter = parameter("boxed");
+        primitiveParameter = parameter("primitive");
+        boxedRequest = matched(new RequestMappingHandlerMapping(), "boxed");
+        primitiveRequest = matched(new TrieRequestMappingHandlerMapping(), "primitive");
+    }
+
+    @Benchmark
+    public Object boxedLong() throws Exception {
+        return boxedResolver.resolveArgument(boxedParameter, mavContainer, boxedRequest, binderFactory);
+    }
+
+    @Benchmark
+    public Object primitiveLong() throws Exception {
+        return primitiveResolver.resolveArgument(primitiveParameter, mavContainer, primitiveRequest, binderFactory);
+    }
+
+    private static MethodParameter parameter(String methodName) throws NoSuchMethodException {
+        Method method = Handlers.class.getMethod(methodName, String.class,
+                methodName.equals("boxed") ? Long.class : long.class);
+        MethodParameter parameter = new MethodParameter(method, 1);
+        parameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+        return parameter;
+    }
+
+    // 매핑으로 한번 찾아서 URI_TEMPLATE_VARIABLES 속성이 채워진 요청을 만듦
+    private static ServletWebRequest matched(RequestMappingHandlerMapping handlerMapping, String methodName) throws Exception {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.refresh();
+        handlerMapping.setPatternParser(new PathPatternParser());
+        handlerMapping.setApplicationContext(context);
+        handlerMapping.afterPropertiesSet();
+        RequestMappingInfo info = RequestMappingInfo.paths("/mapping/users/{userId}/orders/{orderId}")
+                .methods(RequestMethod.GET)
+                .options(handlerMapping.getBuilderConfiguration())
+                .build();
+        handlerMapping.registerMapping(info, new Handlers(), Handlers.class.getMethod(methodName, String.class,
+                methodName.equals("boxed") ? Long.class : long.class));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+        ServletRequestPathUtils.parseAndCache(request);
+        if (handlerMapping.getHandler(request) == null) {
+            throw new IllegalStateException("no handler for " + URI);
+        }
+        return new ServletWebRequest(request);
+    }
+
+    public static class Handlers {
+        public String boxed(@PathVariable("userId") String userId, @PathVariable("orderId") Long orderId) {
+            return "ok";
+        }
+
+        public String primitive(@PathVariable("userId") String userId, @PathVariable("orderId") long orderId) {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package hello.springmvc.bench;
+/*
+    #. 핸들러 매핑 찾기 = RequestMappingHandlerMapping vs TrieRequestMappingHandlerMapping
+    : /api{i}/users/{userId}/orders/{orderId} 모양의 매핑을 routes 개 등록하고 마지막 매핑을 찾음
+      원래 방식은 경로 변수가 있는 매핑을 전부 맞춰보므로 routes 에 비례해서 느려지고, 트라이는 routes 와 상관없어야 함
+      경로 변수 하나(orderId) 를 꺼내는 것까지 포함 (원래 방식은 전부 미리 String 으로 만들고, 트라이는 꺼낼 때 만듦)
+    실행: ./gradlew jmh -PjmhIncludes=RouteLookupBenchmark
+*/
+
+import hello.springmvc.support.route.TrieRequestMappingHandlerMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteLookupBenchmark {
+
+    @Param({"10", "1000", "5000"})
+    public int routes;
+
+    @Param({"default", "trie"})
+    public String mapping;
+
+    private RequestMappingHandlerMapping handlerMapping;
+    private String uri;
+
+    @Setup
+    public void setUp() throws Exception {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.refresh();
+        handlerMapping = mapping.equals("trie") ? new TrieRequestMappingHandlerMapping() : new RequestMappingHandlerMapping();
+        handlerMapping.setPatternParser(new PathPatternParser());
+        handlerMapping.setApplicationContext(context);
+        handlerMapping.afterPropertiesSet();
+
+        Handlers handlers = new Handlers();
+        Method method = Handlers.class.getMethod("order", String.class, String.class);
+        for (int i = 0; i < routes; i++) {
+            RequestMappingInfo info = RequestMappingInfo.paths("/api" + i + "/users/{userId}/orders/{orderId}")
+                    .methods(RequestMethod.GET)
+                    .options(handlerMapping.getBuilderConfiguration())
+                    .build();
+            handlerMapping.registerMapping(info, handlers, method);
+        }
+        uri = "/api" + (routes - 1) + "/users/userA/orders/100";
+        if (lookup() == null) {
+            throw new IllegalStateException("no handler for " + uri);
+        }
+    }
+
+    @Benchmark
+    public Object lookup() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        ServletRequestPathUtils.parseAndCache(request);
+        if (handlerMapping.getHandler(request) == null) {
+            return null;
+        }
+        Map<?, ?> variables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables.get("orderId");
+    }
+
+    public static class Handlers {
+        public String order(String userId, String orderId) {
+            return "ok";
+        }
+    }
+}
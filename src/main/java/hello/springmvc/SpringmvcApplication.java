@@ -1,5 +1,6 @@
 package hello.springmvc;
 
+import hello.springmvc.support.startup.StartupReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,7 +8,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class SpringmvcApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(SpringmvcApplication.class, args);
+		SpringApplication application = new SpringApplication(SpringmvcApplication.class);
+		// --hello.startup.report=true 면 시작 단계를 기록해서 준비 완료 때 리포트로 출력
+		application.setApplicationStartup(StartupReport.applicationStartup(args));
+		application.run(args);
 	}
 
 }
@@ -52,7 +52,8 @@ public class LogTestController {
 
         // (주의) 로그를 사용하지 않아도 a+b 계산 로직이 먼저 실행됨, 이런 방식으로 사용하면 X
         // => 그래서 info log={}붙여줘야 함 => 이건 파라미터를 넘겨주는 단순 trace 메서드 호출임=> 어, 이거 trace구나..(아무런 연산이 일어나지 않음)
-        log.debug("String concat log=" + name);
+        // => 빌드할때 checkLogConcatenation 태스크가 이런 코드를 찾아서 경고함 (이 줄은 일부러 남긴 예시라 제외 표시)
+        log.debug("String concat log=" + name); // log-lint:ignore
         // 문자열 리턴 = 브라우저에 출력됨
         return "ok";
     }
@@ -1,7 +1,8 @@
 package hello.springmvc.basic.request02;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import hello.springmvc.basic.HelloData;
+import hello.springmvc.support.json.JsonCodecRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
 import org.springframework.stereotype.Controller;
@@ -25,8 +26,14 @@ import java.nio.charset.StandardCharsets;
 @Slf4j
 @Controller
 public class RequestBodyJsonController04 {
-    // 문자로 된 JSON 데이터를 Jackson 라이브러리인 objectMapper 를 사용해서 자바 객체로 변환
-    private ObjectMapper objectMapper = new ObjectMapper(); //jackson? 생성
+    // 문자로 된 JSON 데이터를 Jackson 라이브러리인 ObjectReader 를 사용해서 자바 객체로 변환
+    // new ObjectMapper() 로 따로 만들지 않고 => 부트의 ObjectMapper 에서 미리 만들어 둔 HelloData 전용 reader 를 받아 씀
+    //   (@RequestBody/@ResponseBody 와 같은 캐시를 공유, 시작할때 웜업됨 = JsonCodecRegistry 참조)
+    private final ObjectReader helloDataReader;
+
+    public RequestBodyJsonController04(JsonCodecRegistry jsonCodecRegistry) {
+        this.helloDataReader = jsonCodecRegistry.reader(HelloData.class);
+    }
 
     // #1. 기본방식
     @PostMapping("/request-body-json-v1")
@@ -42,7 +49,7 @@ public class RequestBodyJsonController04 {
         log.info("messageBody={}", messageBody);
 
         // jackson 사용 , setter getter 만들어줌
-        HelloData data = objectMapper.readValue(messageBody, HelloData.class);
+        HelloData data = helloDataReader.readValue(messageBody);
         // 객체화된 자바빈 개념 값 로그 출력
         log.info("username={}, age={}", data.getUsername(), data.getAge());
         // 브라우저에 값 출력
@@ -56,8 +63,8 @@ public class RequestBodyJsonController04 {
     @PostMapping("/request-body-json-v2")
     // @RequestBody => HTTP 메시지에서 데이터를 꺼내고 messageBody에 저장 => HttpMessageConverter 사용
     public String requestBodyJsonV2(@RequestBody String messageBody) throws IOException {
-        // 문자로 된 JSON 데이터인 messageBody 를 objectMapper 를 통해서 자바 객체로 변환
-        HelloData data = objectMapper.readValue(messageBody, HelloData.class);
+        // 문자로 된 JSON 데이터인 messageBody 를 helloDataReader 를 통해서 자바 객체로 변환
+        HelloData data = helloDataReader.readValue(messageBody);
         // 객체 꺼내오기
         log.info("username={}, age={}", data.getUsername(), data.getAge());
         // 리턴
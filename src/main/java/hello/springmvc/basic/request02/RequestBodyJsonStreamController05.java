@@ -0,0 +1,105 @@
+package hello.springmvc.basic.request02;
+/*
+    #. HTTP 요청 메시지 - JSON 스트리밍
+    : RequestBodyJsonController04 의 v1, v2 는 바디 전체를 String 으로 복사한 뒤에 objectMapper 로 다시 파싱함
+      => 큰 바디 하나에 힙에 두벌(String + 객체)이 올라감
+      여기서는 ServletInputStream 에서 JsonParser 로 바로 읽어서 요청당 메모리가 바디 크기와 상관없게 만듦
+
+    [설정] application.properties
+    hello.json.stream.max-body-size=10MB   => 넘으면 413 응답 (Content-Length 로 미리, chunked 는 읽다가)
+*/
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import hello.springmvc.basic.HelloData;
+import hello.springmvc.support.json.BoundedInputStream;
+import hello.springmvc.support.json.JsonRecordReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@Controller
+public class RequestBodyJsonStreamController05 {
+
+    private final JsonRecordReader jsonRecordReader;
+    private final long maxBodySize;
+
+    public RequestBodyJsonStreamController05(JsonRecordReader jsonRecordReader,
+                                             @Value("${hello.json.stream.max-body-size:10MB}") DataSize maxBodySize) {
+        this.jsonRecordReader = jsonRecordReader;
+        this.maxBodySize = maxBodySize.toBytes();
+    }
+
+    /* #1. 단일 객체 = String 을 만들지 않고 스트림에서 바로 HelloData 로 */
+    @ResponseBody
+    @PostMapping("/request-body-json-stream-v1")
+    public String requestBodyJsonStreamV1(HttpServletRequest request) throws IOException {
+        try {
+            HelloData data = jsonRecordReader.readOne(boundedBody(request), HelloData.class);
+            log.info("username={}, age={}", data.getUsername(), data.getAge());
+        } catch (IOException e) {
+            throw rejected(e);
+        }
+        return "ok";
+    }
+
+/*
+    #2. 여러 건 = JSON 배열 또는 NDJSON(줄마다 JSON 객체 하나)
+     : 한건씩 읽어서 처리하고 버림 => 만 건이 와도 메모리에는 한 건만 있음
+     content-type: application/json 또는 application/x-ndjson
+*/
+    @ResponseBody
+    @PostMapping("/request-body-json-stream-v2")
+    public String requestBodyJsonStreamV2(HttpServletRequest request) throws IOException {
+        long count;
+        try {
+            count = jsonRecordReader.readEach(boundedBody(request), HelloData.class,
+                    data -> log.debug("username={}, age={}", data.getUsername(), data.getAge()));
+        } catch (IOException e) {
+            throw rejected(e);
+        }
+        log.info("records={}", count);
+        return "ok";
+    }
+
+    // 읽다가 크기를 넘음 = 413 (잭슨이 JsonMappingException 으로 감싼 경우 포함), 잘못된 JSON = 400, 그 외 IO 오류는 그대로
+    private ResponseStatusException rejected(IOException e) throws IOException {
+        if (BoundedInputStream.isLimitExceeded(e)) {
+            return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "request body exceeds " + maxBodySize + " bytes", e);
+        }
+        if (e instanceof JsonProcessingException) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid json", e);
+        }
+        throw e;
+    }
+
+    // Content-Length 로 먼저 걸러내고, chunked 처럼 길이를 모르면 읽으면서 제한
+    private InputStream boundedBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodySize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "request body exceeds " + maxBodySize + " bytes");
+        }
+        return new BoundedInputStream(request.getInputStream(), maxBodySize);
+    }
+
+/*
+    Postman 테스트
+    POST http://localhost:8282/request-body-json-stream-v2
+    raw, JSON
+    [{"username":"hello", "age":20}, {"username":"spring", "age":30}]
+    또는 줄마다 하나씩
+    {"username":"hello", "age":20}
+    {"username":"spring", "age":30}
+*/
+
+} // end of class
@@ -11,6 +11,7 @@ package hello.springmvc.basic.request02;
 */
 /* #1. 단순한 텍스트 메시지를 HTTP 메시지 바디에 담아서 전송하고, 읽기.
        HTTP 메시지 바디의 데이터를 InputStream 을 사용해서 직접 읽을 수 있음.*/
+import hello.springmvc.support.buffer.TextBody;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
 import org.springframework.stereotype.Controller;
@@ -120,6 +121,19 @@ public class RequestBodyStringControler03 {
         return "ok";
     }
 
+/*
+    #5. TextBody - v1~v4 는 모두 요청마다 바디를 새 String 으로 만듦 => 텍스트 업로드가 많으면 가비지가 많이 생김
+      - 풀에서 빌린 버퍼에 바디를 읽고 UTF-8 로 디코딩해서 읽기 전용 CharSequence 로 넘겨줌 (String 생성 X)
+      - 요청이 끝나면 버퍼는 풀로 반납 => 핸들러 밖으로 들고 나가면 안 됨
+      - 로그에 messageBody 를 그대로 넘기면 toString() 으로 String 이 만들어지므로 길이만 출력
+*/
+    @ResponseBody
+    @PostMapping("/request-body-string-v5")
+    public String requestBodyStringV5(TextBody messageBody) {
+        log.info("messageBody length={}", messageBody.length());
+        return "ok";
+    }
+
 /*
     [테스트] Postman을 사용
     POST http://localhost:8282/request-body-string-v???   ??? = 버전 넣어줌
@@ -16,6 +16,8 @@ package hello.springmvc.basic.request02;
      //[value1,value2]
      List<String> values = map.get("keyA");  // List타입 배열로 반환됨
 */
+import hello.springmvc.support.header.HeaderName;
+import hello.springmvc.support.header.RequestHeaders;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.MultiValueMap;
@@ -64,4 +66,21 @@ public class RequestHeaderController01 {
 
         return "ok";
     }
+
+/*
+    #. headers-v2 = 헤더를 Map 으로 복사하지 않고 조회
+      : MultiValueMap 은 요청마다 모든 헤더를 새 Map 에 복사 + log.info 에서 전부 문자열로 만듦
+        => 헤더가 많이 붙어 오는 클라이언트일수록 비용이 커짐
+      RequestHeaders = 톰캣의 헤더 저장소를 감싸기만 하고, 필요한 이름만 조회 (HeaderName 상수 재사용)
+      로그에 {} 로 넘기면 => 그 레벨이 켜져 있을 때만 전체 헤더를 문자열로 만듦
+*/
+    @RequestMapping("/headers-v2")
+    public String headersV2(HttpMethod httpMethod, RequestHeaders headers,
+                            @CookieValue(value = "myCookie", required = false) String cookie) {
+        log.info("httpMethod={}", httpMethod);
+        log.info("header host={}", headers.get(HeaderName.HOST));
+        log.info("myCookie={}", cookie);
+        log.debug("headers={}", headers); // debug 가 꺼져 있으면 문자열을 만들지 않음
+        return "ok";
+    }
 }
@@ -29,6 +29,9 @@ package hello.springmvc.basic.request02;
     Jar 를 사용하면 webapp 경로를 사용할 수 없다
 */
 import hello.springmvc.basic.HelloData;
+import hello.springmvc.support.bind.FastModelAttribute;
+import hello.springmvc.support.bind.LazyParams;
+import hello.springmvc.support.response.ConstantBody;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -66,10 +69,10 @@ public class RequestParamController02 {
     @ResponseBody // @ResponseBody => View 조회를 무시하고, HTTP message body에 직접 해당 내용 입력
     @RequestMapping("/request-param-v2")
     // @RequestParam("username") => 폼에서 넘어온 파라미터 이름으로 바인딩
-    public String requestParamV2( @RequestParam("username") String memberName,
+    public ConstantBody requestParamV2( @RequestParam("username") String memberName,
                                  @RequestParam("age") int memberAge) {
         log.info("username={}, age={}", memberName, memberAge);
-        return "ok";
+        return ConstantBody.OK;
     }
 
     /*
@@ -81,10 +84,10 @@ public class RequestParamController02 {
     @RequestMapping("/request-param-v3")
     // @RequestParam("username") => ("username")폼에서 넘어온 키명과 같은 매개변수명을 쓰면 생략가능
     //                           => HTTP 파라미터 이름이 변수 이름과 같으면 @RequestParam(name="xx") 생략 가능
-    public String requestParamV3( @RequestParam String username,
+    public ConstantBody requestParamV3( @RequestParam String username,
                                   @RequestParam int age) {
         log.info("username={}, age={}", username, age);
-        return "ok";
+        return ConstantBody.OK;
     }
 
     /*
@@ -97,9 +100,9 @@ public class RequestParamController02 {
     @ResponseBody
     @RequestMapping("/request-param-v4")
     // String , int , Integer 등의 단순 타입이면 @RequestParam 도 생략 가능
-    public String requestParamV4( String username, int age) {
+    public ConstantBody requestParamV4( String username, int age) {
         log.info("username={}, age={}", username, age);
-        return "ok";
+        return ConstantBody.OK;
     }
 
     /*
@@ -119,13 +122,13 @@ public class RequestParamController02 {
     */
     @ResponseBody
     @RequestMapping("/request-param-required")
-    public String requestParamRequired(
+    public ConstantBody requestParamRequired(
             // 파라미터 필수 여부 설정 = 만약, 파라미터 이름만 있고 값이 없는 경우 빈문자로 통과
             @RequestParam(required = true) String username,
             // /request-param 요청만 있을 경우 기본형(primitive)에 null 입력 | int로 하면 안됨 = int는 null 못받기 떄문에
             @RequestParam(required = false) Integer age) {
         log.info("username={}, age={}", username, age);
-        return "ok";
+        return ConstantBody.OK;
     }
 
     /*
@@ -140,13 +143,13 @@ public class RequestParamController02 {
     */
     @ResponseBody
     @RequestMapping("/request-param-default")
-    public String requestParamDefault(
+    public ConstantBody requestParamDefault(
             // 파라미터에 값이 없는 경우 defaultValue 를 사용하면 기본 값이 적용됨
             @RequestParam(required = true, defaultValue = "guest") String username,
             // int 사용이 가능한 이유는 문자열 -1을 기본값으로 설정해 놨기 때문임
             @RequestParam(required = false, defaultValue = "-1") int age) {
         log.info("username={}, age={}", username, age);
-        return "ok";
+        return ConstantBody.OK;
     }
 
     /*
@@ -158,10 +161,26 @@ public class RequestParamController02 {
     */
     @ResponseBody
     @RequestMapping("/request-param-map")
-    public String requestParamMap(@RequestParam Map<String, Object> paramMap) { // 모든 파라미터값 받기
+    public ConstantBody requestParamMap(@RequestParam Map<String, Object> paramMap) { // 모든 파라미터값 받기
             log.info("username={}, age={}",
             paramMap.get("username"), paramMap.get("age")); // 값 꺼내기
-      return "ok";
+      return ConstantBody.OK;
+    }
+
+    /*
+        #7-2. LazyParams = 필요한 파라미터만 꺼내기
+          = Map 방식은 모든 파라미터를 디코딩해서 새 Map 을 만듦 => 추적용 파라미터가 수백개 붙으면 그만큼 비용
+          = LazyParams 는 원본 쿼리스트링을 들고 있다가 get 한 키만 디코딩
+          = getInt("age", -1) => 글자에서 바로 int 로 파싱, 없으면 기본값(-1), 숫자가 아니면 400
+
+        [요청 테스트]
+        http://localhost:8282/request-param-map-v2?username=hello&age=20&utm_source=a&utm_medium=b
+    */
+    @ResponseBody
+    @RequestMapping("/request-param-map-v2")
+    public ConstantBody requestParamMapV2(LazyParams params) {
+        log.info("username={}, age={}", params.get("username"), params.getInt("age", -1));
+        return ConstantBody.OK;
     }
 
     /*
@@ -175,13 +194,13 @@ public class RequestParamController02 {
     /* ##0. 기존방식 자바빈 사용법 = 아래 V1, V2 사용할 것임 */
     @ResponseBody
     @RequestMapping("/model-attribute-v0")
-    public String modelAttributeV0(@RequestParam String username, @RequestParam int age) {
+    public ConstantBody modelAttributeV0(@RequestParam String username, @RequestParam int age) {
         HelloData helloData = new HelloData();
         helloData.setUsername(username);
         helloData.setAge(age);
         log.info("username={}, age={}", helloData.getUsername(), helloData.getAge());
         log.info("helloData={}", helloData); // HelloData(username=abc, age=30) = 덩어리로 받음
-        return "ok";
+        return ConstantBody.OK;
     }
 
     /* ## V1. @ModelAttribute 사용 자바빈 사용 */
@@ -194,9 +213,9 @@ public class RequestParamController02 {
 */
     @ResponseBody
     @RequestMapping("/model-attribute-v1")
-    public String modelAttributeV1(@ModelAttribute HelloData helloData) {
+    public ConstantBody modelAttributeV1(@ModelAttribute HelloData helloData) {
         log.info("username={}, age={}", helloData.getUsername(), helloData.getAge());
-        return "ok";
+        return ConstantBody.OK;
     }
 
     /* ## V2. @ModelAttribute 생략가능 */
@@ -208,12 +227,25 @@ public class RequestParamController02 {
 */
     @ResponseBody
     @RequestMapping("/model-attribute-v2")
-    public String modelAttributeV2(HelloData helloData) { // @ModelAttribute 생략가능
+    public ConstantBody modelAttributeV2(HelloData helloData) { // @ModelAttribute 생략가능
         log.info("username={}, age={}", helloData.getUsername(), helloData.getAge());
-        return "ok";
+        return ConstantBody.OK;
     }
 
-
+    /* ## V3. @FastModelAttribute = 미리 만들어 둔 전용 바인더 사용 */
+/*
+    @ModelAttribute 는 요청마다 WebDataBinder 가 리플렉션으로 BeanWrapper, 프로퍼티 정보, 타입 변환기를 찾음
+    => 시작할때 HelloData 의 setter 를 MethodHandle 로 만들어 두고(PreparedBinder),
+       요청에서는 쿼리스트링 원본을 직접 훑어서 age 는 글자에서 바로 int 로 파싱 (박싱 X)
+    [차이] 모델에 담아주지 않고, BindingResult/검증 지원 안 함 => 단순히 값만 받을 때 사용
+    [성능 비교] src/jmh 의 ModelAttributeBenchmark 참조 (./gradlew jmh)
+*/
+    @ResponseBody
+    @RequestMapping("/model-attribute-v3")
+    public ConstantBody modelAttributeV3(@FastModelAttribute HelloData helloData) {
+        log.info("username={}, age={}", helloData.getUsername(), helloData.getAge());
+        return ConstantBody.OK;
+    }
 
 
 
@@ -10,24 +10,34 @@ package hello.springmvc.basic.requestmapping01;
         c. 회원 조회: GET           /users/{userId}  {}템플릿 data 동적으로 값 넣어줌
         d. 회원수정: PATCH          /users/{userId}
         f. 회원 삭제: DELETE        /users/{userId}
+
+    [응답 캐시] 회원 조회는 경로 변수만으로 결과가 정해짐 => @CacheableResponse
+     : 같은 /users/{userId} 두번째 조회부터는 저장해 둔 바이트를 그대로 씀, PATCH / DELETE 가 성공하면 지워짐
 */
+import hello.springmvc.support.cache.CacheableResponse;
+import hello.springmvc.support.response.ConstantBody;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 //클래스 레벨에 매핑 정보를 두면 메서드 레벨에서 해당 정보를 조합해서 사용 | /mapping :는 강의의 다른 예제들과 구분하기 위해 사용(빼구 써도 됨)
 @RequestMapping("/mapping/users")  // 이렇게 하면 매핑 공통 default값이 되어서 /변경되는매핑명 /{userId} 만 적어주면 됨
 public class MappingClassController {
+    // 고정 응답은 시작할때 한번만 인코딩 (ConstantBody 참조)
+    private static final ConstantBody GET_USERS = ConstantBody.text("get users");
+    private static final ConstantBody POST_USER = ConstantBody.text("post user");
+
     /* GET /mapping/users */
     @GetMapping
-    public String users() {
-        return "get users";
+    public ConstantBody users() {
+        return GET_USERS;
     }
     /* POST /mapping/users */
     @PostMapping
-    public String addUser() {
-        return "post user";
+    public ConstantBody addUser() {
+        return POST_USER;
     }
     /* GET /mapping/users/{userId} */
+    @CacheableResponse
     @GetMapping("/{userId}")
     public String findUser(@PathVariable String userId) {
         return "get userId=" + userId;
@@ -1,5 +1,7 @@
 package hello.springmvc.basic.requestmapping01;
 
+import hello.springmvc.support.cache.CacheableResponse;
+import hello.springmvc.support.response.ConstantBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
@@ -28,9 +30,9 @@ public class MappingController01 {
     @RequestMapping("/hello-basic")
 //    @RequestMapping({"/hello-basic","/hello-go"}) // or 조건처럼 배열로 제공되므로 둘중하나로 url 접근 가능
     /* 0. 요청시 실행할 메서드 작성 */
-    public String helloBasic(){
+    public ConstantBody helloBasic(){
         log.info("hellobasic"); // 이젠 로그로 출력 | sout 안씀
-        return "ok"; // 브라우저 문자열 출력
+        return ConstantBody.OK; // 브라우저 문자열 출력
     }
 
     /* 2. 주소 url로 요청매핑, method 지정 */
@@ -40,9 +42,9 @@ public class MappingController01 {
     // => 만약 여기에 POST 요청을 하면 스프링 MVC는 HTTP 405 상태코드(Method Not Allowed)를 반환
     @RequestMapping(value = "/mapping-get-v1", method = RequestMethod.GET)
     // 호출 메서드
-    public String mappingGetV1() {
+    public ConstantBody mappingGetV1() {
         log.info("mappingGetV1");
-        return "ok";
+        return ConstantBody.OK;
     }
 
     /* 3. 주소 url로 요청매핑, method 지정 */
@@ -58,9 +60,9 @@ public class MappingController01 {
  */
     @GetMapping(value = "/mapping-get-v2")
     // 실행 메서드
-    public String mappingGetV2() {
+    public ConstantBody mappingGetV2() {
         log.info("mapping-get-v2");
-        return "ok";
+        return ConstantBody.OK;
     }
 
 /* 4. PathVariable(경로 변수) 사용 */
@@ -69,12 +71,13 @@ public class MappingController01 {
     @PathVariable("userId") String userId -> @PathVariable userId
 */
     // 요청 url이 /mapping/userA 이런식으로 온다 => url자체에 값이 있는것(@PathVariable에 설정해줌)
+    @CacheableResponse // 경로 변수만으로 결과가 정해짐 => 두번째 요청부터 응답 캐시 (로그도 안 찍힘)
     @GetMapping("/mapping/{userId}")  //{}이게 템플릿화 한것임
-    public String mappingPath(@PathVariable("userId") String data) { // int a 개념
+    public ConstantBody mappingPath(@PathVariable("userId") String data) { // int a 개념
         // 주소창에서 /mapping/코딩주소명이 로그 콘솔에 찍힘
         // => 포스트맨 테스트(get방식) http://localhost:8282/mapping/userA = : (콘솔)mappingPath userId=userA
         log.info("mappingPath userId={}", data);
-        return "ok";
+        return ConstantBody.OK;
     }
 /*
     @RequestMapping 은 URL 경로를 템플릿화 할 수 있는데, @PathVariable 을 사용하면 매칭 되는 부분을 편리하게 조회할 수 있다.
@@ -87,12 +90,13 @@ public class MappingController01 {
 */
 
     /* 5. PathVariable(경로 변수) 사용 */
+    @CacheableResponse
     @GetMapping("/mapping/users/{userId}/orders/{orderId}")
     // 실행 메서드
-    public String mappingPath(@PathVariable String userId, @PathVariable Long
-            orderId) {
+    // long 으로 받으면 경로 문자에서 바로 파싱 (PrimitivePathVariableArgumentResolver), 숫자가 아니거나 범위를 넘으면 400
+    public ConstantBody mappingPath(@PathVariable String userId, @PathVariable long orderId) {
         log.info("mappingPath userId={}, orderId={}", userId, orderId);
-        return "ok";
+        return ConstantBody.OK;
     }
     // 실행
     // http://localhost:8282/mapping/users/userA/orders/100
@@ -15,23 +15,38 @@ package hello.springmvc.basic.response03;
     => @RestController 에노테이션 안에 @ResponseBody 가 적용되어 있음.
 */
 import hello.springmvc.basic.HelloData;
+import hello.springmvc.support.etag.EtagVersion;
+import hello.springmvc.support.etag.HashedEtag;
+import hello.springmvc.support.json.JsonRecordWriter;
+import hello.springmvc.support.response.ConstantBody;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 @Slf4j
 //@Controller
 //@ResponseBody  => 전역 영역에 코딩하면 각각 메서드에 중복 코딩을 막을수도 있음, 생략가능
 @RestController  // = @Controller + @ResponseBody(생략가능)
 public class ResponseBodyController02 {
+
+    private final JsonRecordWriter jsonRecordWriter;
+
+    public ResponseBodyController02(JsonRecordWriter jsonRecordWriter) {
+        this.jsonRecordWriter = jsonRecordWriter;
+    }
+
 /* #1. 서블릿 방식 = HttpServletResponse 객체를 통해서 HTTP 메시지 바디에 직접 ok 응답 메시지를 전달 */
     @GetMapping("/response-body-string-v1")
     public void responseBodyV1(HttpServletResponse response) throws IOException {
@@ -47,15 +62,17 @@ public class ResponseBodyController02 {
     }
 
 /* #3. @ResponseBody 를 사용하면 view를 사용하지 않고, HTTP 메시지 컨버터를 통해서 HTTP 메시지를 직접 입력
-       = ResponseEntity 도 동일한 방식으로 동작*/
+       = ResponseEntity 도 동일한 방식으로 동작
+       => 항상 같은 "ok" 라면 ConstantBody 로 리턴 = 메시지 컨버터 없이 미리 인코딩해 둔 바이트를 그대로 씀*/
 //    @ResponseBody
     @GetMapping("/response-body-string-v3")
-    public String responseBodyV3() {
-        return "ok";
+    public ConstantBody responseBodyV3() {
+        return ConstantBody.OK;
     }
 
 /* JSON 처리 */
 /* #1.ResponseEntity 를 반환. HTTP 메시지 컨버터를 통해서 JSON 형식으로 변환되어서 반환 */
+    @HashedEtag
     @GetMapping("/response-body-json-v1")
     public ResponseEntity<HelloData> responseBodyJsonV1() { //HTTP 메시지 컨버터를 통해서 JSON 형식으로 변환되어서 반환
         HelloData helloData = new HelloData();
@@ -68,7 +85,11 @@ public class ResponseBodyController02 {
        @ResponseBody 를 사용하면 이런 것을 설정하기 까다로움.
        @ResponseStatus(HttpStatus.OK) 애노테이션을 사용하면 응답 코드도 설정
        = 물론 애노테이션이기 때문에 응답 코드를 동적으로 변경할 수는 없음
-       = 프로그램 조건에 따라서 동적으로 변경하려면 ResponseEntity 를 사용하면 됨.(위의 것 참조) */
+       = 프로그램 조건에 따라서 동적으로 변경하려면 ResponseEntity 를 사용하면 됨.(위의 것 참조)
+   [ETag] v1 = @HashedEtag => 직렬화한 바이트의 해시로 ETag (JsonEtagAdvice), 같은 If-None-Match 면 304
+          v2 = 항상 같은 값 => @EtagVersion 으로 버전을 직접 줌 => 같은 If-None-Match 면 핸들러 실행 없이 304
+          (응답 내용을 바꾸면 버전도 올릴 것) */
+    @EtagVersion("1")
     @ResponseStatus(HttpStatus.OK)
 //    @ResponseBody
     @GetMapping("/response-body-json-v2")
@@ -79,4 +100,32 @@ public class ResponseBodyController02 {
         helloData.setAge(20);
         return helloData;
     }
+
+/*
+    JSON 스트리밍 = 목록이 큰 경우 (만 건 이상)
+     : List<HelloData> 를 리턴하면 목록 전체 + 직렬화 결과가 메모리에 다 올라간 뒤에야 응답이 나감
+       => 만들어지는 대로 한 건씩 응답 스트림에 씀 (JsonRecordWriter 참조), 힙 사용량은 건수와 상관없이 일정
+     #1. JSON 배열  [{"username":"user0","age":0}, ...]
+     #2. NDJSON    줄마다 {"username":"user0","age":0}
+     GET http://localhost:8282/response-body-json-stream-v1?count=100000
+*/
+    @GetMapping("/response-body-json-stream-v1")
+    public ResponseEntity<StreamingResponseBody> responseBodyJsonStreamV1(@RequestParam(defaultValue = "10000") long count) {
+        return jsonRecordWriter.array(helloDataStream(count), HelloData.class);
+    }
+
+    @GetMapping("/response-body-json-stream-v2")
+    public ResponseEntity<StreamingResponseBody> responseBodyJsonStreamV2(@RequestParam(defaultValue = "10000") long count) {
+        return jsonRecordWriter.ndjson(helloDataStream(count), HelloData.class);
+    }
+
+    // 실제로는 DB 커서 같은 곳에서 한 건씩 가져오는 자리 = 미리 목록으로 만들지 않음
+    private Stream<HelloData> helloDataStream(long count) {
+        return LongStream.range(0, count).mapToObj(i -> {
+            HelloData helloData = new HelloData();
+            helloData.setUsername("user" + i);
+            helloData.setAge((int) (i % 100));
+            return helloData;
+        });
+    }
 } // end of class
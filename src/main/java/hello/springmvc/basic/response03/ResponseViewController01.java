@@ -18,17 +18,26 @@ package hello.springmvc.basic.response03;
       : HTTP API를 제공하는 경우에는 HTML이 아니라 데이터를 전달해야 하므로,
         = HTTP 메시지 바디에 JSON 같은 형식으로 데이터를 실어 보낸다.
 
+
+      [렌더링 캐시] @CachedView = 모델 값이 같으면 템플릿을 다시 평가하지 않고 저장해 둔 HTML 을 그대로 씀
+       (통계: GET /view-cache-stats)
 */
+import hello.springmvc.basic.HelloData;
+import hello.springmvc.support.view.CachedView;
+import hello.springmvc.support.view.StreamingView;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.ModelAndView;
+import reactor.core.publisher.Flux;
 
 // (중요) @Controller는 문자열을 리틴하면 뷰의 논리적 이름이 됨
 @Controller
 public class ResponseViewController01 {
     /* #1. ModelAndView 사용 */
+    @CachedView
     @RequestMapping("response-view-v1")
     public ModelAndView responseViewV1() {
         ModelAndView mav = new ModelAndView("response/hello") // resources/template 아래경로 설정
@@ -38,6 +47,7 @@ public class ResponseViewController01 {
 
 /* #2. String 반환 = @Controller일 경우 리턴 문자열은 논리적 이름이 됨 */
     // 만약, @ResponseBody 사용할 경우 body에 문자열이 출력됨 = http 응답메서지 문자열로 나감
+    @CachedView
     @RequestMapping("/response-view-v2")
     public String responseViewV2(Model model) { // String 반환이므로 Model 필요
         model.addAttribute("data", "hello!!");
@@ -45,10 +55,31 @@ public class ResponseViewController01 {
     }
 
 /* #3. Void 반환 = 권장하지 않음. 하지마 */
+    @CachedView
     @RequestMapping("/response/hello")  // 경로이름이랑 같으면 void로 반환해줄수 있다.
     public void responseViewV3(Model model) {
         model.addAttribute("data", "hello!!"); }
 
+/*
+    #4. 큰 목록 화면 = @StreamingView
+     : items 를 List 로 다 모아서 넘기지 않고 Flux(Publisher) 로 넘김
+       => 타임리프 th:each 가 한 건씩 꺼내 쓰고, 100건마다 flush => 첫 바이트가 목록이 끝나기 전에 나감
+    [테스트] curl -N "http://localhost:8282/response-view-v4?count=100000"
+*/
+    @StreamingView(flushEvery = 100)
+    @RequestMapping("/response-view-v4")
+    public String responseViewV4(@RequestParam(defaultValue = "1000") int count, Model model) {
+        // 실제로는 DB / 다른 서비스에서 한 건씩 받아오는 자리
+        Flux<HelloData> items = Flux.range(0, count).map(i -> {
+            HelloData helloData = new HelloData();
+            helloData.setUsername("user" + i);
+            helloData.setAge(i % 100);
+            return helloData;
+        });
+        model.addAttribute("items", items);
+        return "response/items";
+    }
+
 
 } // end of class
 
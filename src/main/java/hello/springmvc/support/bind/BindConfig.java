@@ -0,0 +1,22 @@
+package hello.springmvc.support.bind;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/* @FastModelAttribute, LazyParams 파라미터 처리 등록 */
+@Configuration
+@RequiredArgsConstructor
+public class BindConfig implements WebMvcConfigurer {
+
+    private final PreparedBinderRegistry binderRegistry;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new FastModelAttributeArgumentResolver(binderRegistry));
+        resolvers.add(new LazyParamsArgumentResolver());
+    }
+}
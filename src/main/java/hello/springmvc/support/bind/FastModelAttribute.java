@@ -0,0 +1,20 @@
+package hello.springmvc.support.bind;
+/*
+    #. @FastModelAttribute
+    : @ModelAttribute 처럼 요청 파라미터를 객체에 바인딩하는데, 리플렉션 기반 WebDataBinder 를 쓰지 않음
+      => 시작할때 대상 클래스마다 MethodHandle 로 만든 전용 바인더(PreparedBinder)를 미리 준비해두고 그걸로 바인딩
+    [지원 프로퍼티 타입] String, int, long, boolean (+ 래퍼타입 X)
+    [주의] 모델(Model)에 담아주지 않음 = @ResponseBody 핸들러용, 검증(@Validated)/BindingResult 지원 X
+*/
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface FastModelAttribute {
+}
@@ -0,0 +1,29 @@
+package hello.springmvc.support.bind;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+
+/* @FastModelAttribute 파라미터 = 미리 만들어 둔 PreparedBinder 로 바인딩 */
+@RequiredArgsConstructor
+public class FastModelAttributeArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final PreparedBinderRegistry binderRegistry;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(FastModelAttribute.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        return binderRegistry.binderFor(parameter.getParameterType()).bind(request);
+    }
+}
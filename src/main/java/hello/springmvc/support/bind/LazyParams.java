@@ -0,0 +1,160 @@
+package hello.springmvc.support.bind;
+/*
+    #. 지연(lazy) 요청 파라미터 뷰
+    : @RequestParam Map<String, Object> 는 컨테이너가 모든 파라미터를 디코딩해서 새 Map 에 담음
+      => 추적용 파라미터가 수백개 붙어 와도 전부 디코딩 비용을 냄
+      LazyParams 는 원본 쿼리스트링(+폼 바디)을 그대로 들고 있다가 get 할 때 그 키만 찾아서 디코딩
+      getInt/getLong 은 숫자를 원본 글자에서 바로 파싱 (String, 박싱 X)
+
+    [주의]
+     a. 조회할 때마다 원본을 앞에서부터 훑음 = 같은 키를 여러번 읽을 거면 변수에 담아서 사용
+     b. 같은 키가 여러번 오면 get 은 첫번째 값 (getAll 로 전부)
+     c. %zz 처럼 디코딩할 수 없는 값은 없는 것으로 (get = defaultValue, getAll 에서 빠짐) = 톰캣과 같음
+*/
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class LazyParams {
+
+    private static final LazyParams EMPTY = new LazyParams(new CharSequence[0]);
+
+    // 쿼리스트링, 폼 바디 순서 = @RequestParam 과 같은 우선순위
+    private final CharSequence[] sources;
+
+    private LazyParams(CharSequence[] sources) {
+        this.sources = sources;
+    }
+
+    public static LazyParams of(CharSequence... sources) {
+        List<CharSequence> nonEmpty = new ArrayList<>(sources.length);
+        for (CharSequence source : sources) {
+            if (source != null && source.length() > 0) {
+                nonEmpty.add(source);
+            }
+        }
+        return nonEmpty.isEmpty() ? EMPTY : new LazyParams(nonEmpty.toArray(new CharSequence[0]));
+    }
+
+    public boolean has(String name) {
+        return find(name, null) >= 0;
+    }
+
+    public String get(String name) {
+        return get(name, null);
+    }
+
+    public String get(String name, String defaultValue) {
+        int[] region = new int[3];
+        if (find(name, region) < 0) {
+            return defaultValue;
+        }
+        String value = QueryStrings.decode(sources[region[0]], region[1], region[2]);
+        return value == null ? defaultValue : value;
+    }
+
+    /* 없거나 빈 값이면 defaultValue, 숫자가 아니면 400 (%XX 가 있으면 디코딩한 다음 파싱) */
+    public int getInt(String name, int defaultValue) {
+        int[] region = new int[3];
+        if (find(name, region) < 0 || region[1] == region[2]) {
+            return defaultValue;
+        }
+        CharSequence source = sources[region[0]];
+        if (QueryStrings.needsDecoding(source, region[1], region[2])) {
+            String decoded = QueryStrings.decode(source, region[1], region[2]);
+            return decoded == null ? defaultValue : QueryStrings.parseInt(decoded, 0, decoded.length());
+        }
+        return QueryStrings.parseInt(source, region[1], region[2]);
+    }
+
+    public long getLong(String name, long defaultValue) {
+        int[] region = new int[3];
+        if (find(name, region) < 0 || region[1] == region[2]) {
+            return defaultValue;
+        }
+        CharSequence source = sources[region[0]];
+        if (QueryStrings.needsDecoding(source, region[1], region[2])) {
+            String decoded = QueryStrings.decode(source, region[1], region[2]);
+            return decoded == null ? defaultValue : QueryStrings.parseLong(decoded, 0, decoded.length());
+        }
+        return QueryStrings.parseLong(source, region[1], region[2]);
+    }
+
+    public List<String> getAll(String name) {
+        List<String> values = null;
+        for (CharSequence source : sources) {
+            int length = source.length();
+            int start = 0;
+            while (start < length) {
+                int end = indexOf(source, '&', start, length);
+                int eq = indexOf(source, '=', start, end);
+                if (keyMatches(source, start, eq, name)) {
+                    String value = eq < end ? QueryStrings.decode(source, eq + 1, end) : "";
+                    if (value != null) {
+                        if (values == null) {
+                            values = new ArrayList<>(2);
+                        }
+                        values.add(value);
+                    }
+                }
+                start = end + 1;
+            }
+        }
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    /*
+        name 의 첫번째 값 위치를 찾음
+        region = {소스 번호, 값 시작, 값 끝}, 없으면 -1
+    */
+    private int find(String name, int[] region) {
+        for (int s = 0; s < sources.length; s++) {
+            CharSequence source = sources[s];
+            int length = source.length();
+            int start = 0;
+            while (start < length) {
+                int end = indexOf(source, '&', start, length);
+                int eq = indexOf(source, '=', start, end);
+                if (keyMatches(source, start, eq, name)) {
+                    if (region != null) {
+                        region[0] = s;
+                        region[1] = Math.min(eq + 1, end); // "name" 만 있고 = 가 없으면 빈 값
+                        region[2] = end;
+                    }
+                    return s;
+                }
+                start = end + 1;
+            }
+        }
+        return -1;
+    }
+
+    // 키는 대부분 인코딩이 없으므로 원본 그대로 비교, % 나 + 가 있을 때만 디코딩해서 비교
+    private static boolean keyMatches(CharSequence source, int start, int end, String name) {
+        if (QueryStrings.regionEquals(source, start, end, name)) {
+            return true;
+        }
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == '%' || c == '+') {
+                return name.equals(QueryStrings.decode(source, start, end)); // 깨진 키(null) 는 안 맞음
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(CharSequence source, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == c) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public String toString() {
+        return String.join("&", sources);
+    }
+}
@@ -0,0 +1,44 @@
+package hello.springmvc.support.bind;
+/*
+    #. LazyParams 파라미터 처리
+    : GET = 쿼리스트링 원본을 그대로 넘김 (복사 X)
+      POST 폼(application/x-www-form-urlencoded) = 바디를 한번 읽어서 원본 그대로 보관
+       => 폼 바디는 퍼센트 인코딩된 ASCII 라서 ISO-8859-1 로 읽으면 바이트=글자 1:1
+*/
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+
+public class LazyParamsArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return LazyParams.class == parameter.getParameterType();
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        String query = request.getQueryString();
+        if (!isForm(request)) {
+            return LazyParams.of(query);
+        }
+        String form = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.ISO_8859_1);
+        return LazyParams.of(query, form);
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && !"GET".equals(request.getMethod())
+                && MediaType.APPLICATION_FORM_URLENCODED.includes(MediaType.parseMediaType(contentType));
+    }
+}
@@ -0,0 +1,202 @@
+package hello.springmvc.support.bind;
+/*
+    #. 클래스 전용 바인더
+    : WebDataBinder 는 요청마다 BeanWrapper 생성, 프로퍼티 디스크립터 조회, ConversionService 조회를 함
+      => 시작할때 한번만 setter 를 찾아서 MethodHandle 로 만들어 두고,
+         요청에서는 쿼리스트링을 한번 훑으면서 이름이 맞는 setter 를 바로 호출
+      int/long/boolean 은 쿼리스트링 글자에서 바로 파싱해서 invokeExact 로 넘김 => 박싱 없음
+*/
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PreparedBinder<T> {
+
+    private enum Kind { STRING, INT, LONG, BOOLEAN }
+
+    private static final String FORM_URLENCODED = "application/x-www-form-urlencoded";
+    private static final String MULTIPART = "multipart/";
+
+    private static final class Property {
+        final String name;
+        final Kind kind;
+        final MethodHandle setter; // (Object, String|int|long|boolean)void 로 맞춰둠
+
+        Property(String name, Kind kind, MethodHandle setter) {
+            this.name = name;
+            this.kind = kind;
+            this.setter = setter;
+        }
+    }
+
+    private final Class<T> type;
+    private final MethodHandle constructor; // ()Object
+    private final Property[] properties;
+
+    private PreparedBinder(Class<T> type, MethodHandle constructor, Property[] properties) {
+        this.type = type;
+        this.constructor = constructor;
+        this.properties = properties;
+    }
+
+    /* 시작할때 한번 = 기본 생성자 + 지원하는 타입의 setter 만 골라서 MethodHandle 로 */
+    public static <T> PreparedBinder<T> compile(Class<T> type) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            List<Property> properties = new ArrayList<>();
+            for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+                Method writeMethod = descriptor.getWriteMethod();
+                Kind kind = kindOf(descriptor.getPropertyType());
+                if (writeMethod == null || kind == null) {
+                    continue;
+                }
+                MethodHandle setter = lookup.unreflect(writeMethod)
+                        .asType(MethodType.methodType(void.class, Object.class, descriptor.getPropertyType()));
+                properties.add(new Property(descriptor.getName(), kind, setter));
+            }
+            return new PreparedBinder<>(type, constructor, properties.toArray(new Property[0]));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("cannot prepare binder for " + type.getName(), e);
+        }
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /*
+        쿼리스트링만 있으면 원본 문자열을 직접 훑음 (컨테이너의 파라미터 Map 을 만들지 않음)
+        폼 바디(POST x-www-form-urlencoded, multipart) 가 있거나 쿼리스트링이 없으면 프로퍼티 이름으로 getParameter 조회
+        => 컨테이너가 쿼리 + 바디 파라미터를 합쳐 줌 (POST /model-attribute-v3?debug=1 + 바디 도 바디 값이 바인딩됨)
+    */
+    public T bind(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query != null && !hasFormBody(request) ? bind(query) : bindParameters(request);
+    }
+
+    public T bind(String query) {
+        Object target = newInstance();
+        int length = query.length();
+        int start = 0;
+        while (start < length) {
+            int end = query.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+            int eq = query.indexOf('=', start);
+            if (eq > start && eq < end) {
+                Property property = find(query, start, eq);
+                if (property != null) {
+                    set(target, property, query, eq + 1, end, true);
+                }
+            }
+            start = end + 1;
+        }
+        return type.cast(target);
+    }
+
+    private T bindParameters(HttpServletRequest request) {
+        Object target = newInstance();
+        for (Property property : properties) {
+            String value = request.getParameter(property.name);
+            if (value != null) {
+                set(target, property, value, 0, value.length(), false);
+            }
+        }
+        return type.cast(target);
+    }
+
+    private Property find(CharSequence source, int start, int end) {
+        for (Property property : properties) {
+            if (QueryStrings.regionEquals(source, start, end, property.name)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private Object newInstance() {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("cannot instantiate " + type.getName(), e);
+        }
+    }
+
+    private static boolean hasFormBody(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null
+                && (contentType.regionMatches(true, 0, FORM_URLENCODED, 0, FORM_URLENCODED.length())
+                || contentType.regionMatches(true, 0, MULTIPART, 0, MULTIPART.length()));
+    }
+
+    /*
+        encoded = 쿼리스트링 원본 구간 (%XX, + 가 있으면 먼저 디코딩한 다음 파싱 => age=%33%30 = 30)
+                  getParameter 값은 컨테이너가 이미 디코딩했으므로 false
+        빈 값(age=)은 @ModelAttribute 처럼 건너뜀 = 기본값 유지
+        %zz 처럼 디코딩할 수 없는 값도 건너뜀 (톰캣이 그 쌍을 버리므로 @ModelAttribute 도 바인딩하지 않음)
+    */
+    private static void set(Object target, Property property, CharSequence source, int start, int end, boolean encoded) {
+        if (encoded && QueryStrings.needsDecoding(source, start, end)) {
+            String decoded = QueryStrings.decode(source, start, end);
+            if (decoded != null) {
+                set(target, property, decoded, 0, decoded.length(), false);
+            }
+            return;
+        }
+        if (start == end && property.kind != Kind.STRING) {
+            return;
+        }
+        try {
+            switch (property.kind) {
+                case INT:
+                    property.setter.invokeExact(target, QueryStrings.parseInt(source, start, end));
+                    break;
+                case LONG:
+                    property.setter.invokeExact(target, QueryStrings.parseLong(source, start, end));
+                    break;
+                case BOOLEAN:
+                    property.setter.invokeExact(target, QueryStrings.parseBoolean(source, start, end));
+                    break;
+                default:
+                    property.setter.invokeExact(target, source.subSequence(start, end).toString());
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("cannot set " + property.name, e);
+        }
+    }
+
+    private static Kind kindOf(Class<?> propertyType) {
+        if (propertyType == String.class) {
+            return Kind.STRING;
+        }
+        if (propertyType == int.class) {
+            return Kind.INT;
+        }
+        if (propertyType == long.class) {
+            return Kind.LONG;
+        }
+        if (propertyType == boolean.class) {
+            return Kind.BOOLEAN;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedBinder[" + ClassUtils.getShortName(type) + ", properties=" + properties.length + "]";
+    }
+}
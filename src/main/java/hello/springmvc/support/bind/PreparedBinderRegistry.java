@@ -0,0 +1,49 @@
+package hello.springmvc.support.bind;
+/*
+    #. 바인더 레지스트리
+    : 시작할때 모든 핸들러 메서드를 훑어서 @FastModelAttribute 파라미터 타입마다 PreparedBinder 를 미리 만들어 둠
+      => 첫 요청에서 바인더를 만드는 비용도 없음
+*/
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class PreparedBinderRegistry implements SmartInitializingSingleton {
+
+    // 핸들러 매핑은 WebMvcConfigurer(BindConfig) 보다 나중에 만들어지므로 생성자에서 받지 않고 시작 직후에 꺼냄
+    private final ApplicationContext applicationContext;
+    private final Map<Class<?>, PreparedBinder<?>> binders = new ConcurrentHashMap<>();
+
+    public PreparedBinderRegistry(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RequestMappingHandlerMapping handlerMapping = applicationContext.getBean(
+                "requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                if (parameter.hasParameterAnnotation(FastModelAttribute.class)) {
+                    binderFor(parameter.getParameterType());
+                }
+            }
+        }
+        log.info("prepared binders={}", binders.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> PreparedBinder<T> binderFor(Class<T> type) {
+        return (PreparedBinder<T>) binders.computeIfAbsent(type, PreparedBinder::compile);
+    }
+}
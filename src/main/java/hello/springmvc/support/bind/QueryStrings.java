@@ -0,0 +1,112 @@
+package hello.springmvc.support.bind;
+/*
+    #. 쿼리스트링 조각 처리 유틸
+    : 원본 문자열(username=hello&age=20)의 구간(start~end)을 그대로 다룸 => substring 을 만들지 않음
+*/
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+public final class QueryStrings {
+
+    private QueryStrings() {
+    }
+
+    /* 구간의 숫자를 바로 int 로 = Integer.parseInt(substring) 처럼 String 을 만들지 않음, 박싱 X */
+    public static int parseInt(CharSequence source, int start, int end) {
+        long value = parseLong(source, start, end);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw badRequest(source, start, end);
+        }
+        return (int) value;
+    }
+
+    /* 앞뒤 공백은 무시 = 스프링 컨버전(NumberUtils.parseNumber) 처럼 age=+20 (+ 는 공백으로 디코딩) 도 20 */
+    public static long parseLong(CharSequence source, int start, int end) {
+        while (start < end && Character.isWhitespace(source.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(source.charAt(end - 1))) {
+            end--;
+        }
+        if (start >= end) {
+            throw badRequest(source, start, end);
+        }
+        boolean negative = false;
+        int i = start;
+        char first = source.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                throw badRequest(source, start, end);
+            }
+        }
+        // 음수 쪽으로 누적하면 Long.MIN_VALUE 까지 오버플로 없이 표현 가능 (Long.parseLong 과 같은 방식)
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multMin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = source.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multMin) {
+                throw badRequest(source, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw badRequest(source, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    public static boolean parseBoolean(CharSequence source, int start, int end) {
+        return regionEquals(source, start, end, "true") || regionEquals(source, start, end, "on");
+    }
+
+    /*
+        값 디코딩 = % 나 + 가 없으면 substring 한번으로 끝
+        %zz 처럼 깨진 값은 null => 톰캣이 getParameter 에서 그 쌍을 건너뛰는 것처럼 없는 값으로 (500 이 아님)
+    */
+    public static String decode(CharSequence source, int start, int end) {
+        String value = source.subSequence(start, end).toString();
+        if (!needsDecoding(source, start, end)) {
+            return value;
+        }
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static boolean needsDecoding(CharSequence source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == '%' || c == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean regionEquals(CharSequence source, int start, int end, String name) {
+        int length = end - start;
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (source.charAt(start + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ResponseStatusException badRequest(CharSequence source, int start, int end) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "invalid number: " + source.subSequence(start, end));
+    }
+}
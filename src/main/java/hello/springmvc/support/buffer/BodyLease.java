@@ -0,0 +1,123 @@
+package hello.springmvc.support.buffer;
+/*
+    #. 요청 한건이 빌린 버퍼들
+    : 바디를 ByteBuffer 로 읽고 => CharBuffer 로 UTF-8 디코딩
+      요청이 끝나면(BufferLeaseInterceptor.afterCompletion) release() 로 둘다 풀에 반납
+*/
+
+import org.apache.catalina.connector.CoyoteInputStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+class BodyLease {
+
+    // CharsetDecoder 는 쓰레드 안전하지 않음 => 쓰레드마다 하나씩 만들어서 재사용
+    private static final ThreadLocal<CharsetDecoder> UTF8_DECODER = ThreadLocal.withInitial(() ->
+            StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+    // 톰캣 스트림이 아닌데(필터가 감싼 스트림, 다른 컨테이너) 버퍼가 direct 일 때 거쳐가는 배열
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[8192]);
+
+    private final BufferPool bufferPool;
+    private ByteBuffer bytes;
+    private CharBuffer chars;
+
+    BodyLease(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    TextBody read(InputStream inputStream, long contentLength) throws IOException {
+        if (contentLength > BufferPool.maxCapacity()) {
+            throw tooLarge();
+        }
+        bytes = bufferPool.acquireBytes((int) Math.max(contentLength, 1));
+        while (contentLength < 0 || bytes.position() < contentLength) {
+            if (!bytes.hasRemaining()) {
+                // 꽉 찼을 때 = 한 바이트를 더 읽어 봐서 정말 더 올 때만 키움 (최대 크기에 딱 맞는 chunked 바디는 413 이 아님)
+                int next = inputStream.read();
+                if (next < 0) {
+                    break;
+                }
+                grow();
+                bytes.put((byte) next);
+            }
+            if (readInto(inputStream, bytes) < 0) {
+                break;
+            }
+        }
+        bytes.flip();
+
+        // UTF-8 은 글자 수가 바이트 수보다 많을 수 없으므로 바이트 수만큼만 빌리면 됨
+        chars = bufferPool.acquireChars(Math.max(bytes.remaining(), 1));
+        CharsetDecoder decoder = UTF8_DECODER.get();
+        decoder.reset();
+        decoder.decode(bytes, chars, true);
+        decoder.flush(chars);
+        chars.flip();
+        return new TextBody(chars);
+    }
+
+    void release() {
+        if (bytes != null) {
+            bufferPool.release(bytes);
+            bytes = null;
+        }
+        if (chars != null) {
+            bufferPool.release(chars);
+            chars = null;
+        }
+    }
+
+    // Content-Length 를 모르는(chunked) 경우 = 다음 크기 단위로 옮겨 담음
+    private void grow() {
+        ByteBuffer bigger = bufferPool.acquireBytes(bytes.capacity() + 1);
+        if (bigger == null) {
+            throw tooLarge();
+        }
+        bytes.flip();
+        bigger.put(bytes);
+        bufferPool.release(bytes);
+        bytes = bigger;
+    }
+
+    private static int readInto(InputStream inputStream, ByteBuffer target) throws IOException {
+        // 톰캣 입력 스트림은 ByteBuffer 로 바로 읽을 수 있음 = direct 버퍼여도 중간 byte[] 없음
+        // (주의) 읽고 나면 position~limit 이 방금 읽은 구간이 되도록 바꿔놓음 => 이어서 쓸 수 있게 되돌림
+        if (inputStream instanceof CoyoteInputStream) {
+            int n = ((CoyoteInputStream) inputStream).read(target);
+            if (n > 0) {
+                target.position(target.limit()).limit(target.capacity());
+            }
+            return n;
+        }
+        if (target.hasArray()) {
+            int n = inputStream.read(target.array(), target.arrayOffset() + target.position(), target.remaining());
+            if (n > 0) {
+                target.position(target.position() + n);
+            }
+            return n;
+        }
+        // direct 버퍼 = 쓰레드별 배열로 덩어리째 읽어서 옮겨 담음 (한 바이트씩 read() 하지 않음)
+        byte[] scratch = SCRATCH.get();
+        int n = inputStream.read(scratch, 0, Math.min(scratch.length, target.remaining()));
+        if (n > 0) {
+            target.put(scratch, 0, n);
+        }
+        return n;
+    }
+
+    private static ResponseStatusException tooLarge() {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "request body exceeds " + BufferPool.maxCapacity() + " bytes");
+    }
+}
@@ -0,0 +1,23 @@
+package hello.springmvc.support.buffer;
+/*
+    #. 요청이 끝나면 빌린 버퍼 반납
+    : afterCompletion 은 뷰 렌더링까지 끝난 뒤, 예외가 나도 호출됨
+*/
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class BufferLeaseInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object lease = request.getAttribute(TextBodyArgumentResolver.LEASE_ATTRIBUTE);
+        if (lease != null) {
+            request.removeAttribute(TextBodyArgumentResolver.LEASE_ATTRIBUTE);
+            ((BodyLease) lease).release();
+        }
+    }
+}
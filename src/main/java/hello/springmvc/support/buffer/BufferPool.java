@@ -0,0 +1,112 @@
+package hello.springmvc.support.buffer;
+/*
+    #. 크기별(size class) 버퍼 풀
+    : 요청 바디를 읽을 ByteBuffer, UTF-8 디코딩 결과를 담을 CharBuffer 를 빌려주고 돌려받음
+      => 요청마다 byte[] / String 을 새로 만들지 않아서 young-gen 가비지가 줄어듦
+
+    [크기 단위] 4KB, 16KB, 64KB, 256KB, 1MB (4배씩)
+     : 요청한 크기보다 크거나 같은 가장 작은 단위를 빌려줌, 가장 큰 단위보다 크면 빌려줄 수 없음(null)
+
+    [설정] application.properties
+     hello.buffer.direct=false            => true 면 ByteBuffer 를 direct(힙 밖) 로 만듦
+     hello.buffer.slots-per-class=32      => 단위별로 풀에 보관할 최대 개수
+*/
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+@Component
+public class BufferPool {
+
+    private static final int MIN_SHIFT = 12; // 4KB
+    private static final int CLASS_STEP = 2; // 단위마다 4배
+    private static final int CLASS_COUNT = 5; // 4KB ~ 1MB
+
+    private final boolean direct;
+    private final SlotPool<ByteBuffer>[] bytePools;
+    private final SlotPool<CharBuffer>[] charPools;
+
+    public BufferPool(@Value("${hello.buffer.direct:false}") boolean direct,
+                      @Value("${hello.buffer.slots-per-class:32}") int slotsPerClass) {
+        this.direct = direct;
+        this.bytePools = pools(slotsPerClass);
+        this.charPools = pools(slotsPerClass);
+    }
+
+    // 제네릭 배열은 직접 만들 수 없음 => 경고 억제는 여기 한 곳에만
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> SlotPool<T>[] pools(int slotsPerClass) {
+        SlotPool<T>[] pools = new SlotPool[CLASS_COUNT];
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            pools[i] = new SlotPool<>(slotsPerClass);
+        }
+        return pools;
+    }
+
+    public static int maxCapacity() {
+        return capacityOf(CLASS_COUNT - 1);
+    }
+
+    public ByteBuffer acquireBytes(int minCapacity) {
+        int index = classIndex(minCapacity);
+        if (index < 0) {
+            return null;
+        }
+        ByteBuffer buffer = bytePools[index].poll();
+        if (buffer == null) {
+            int capacity = capacityOf(index);
+            buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    public CharBuffer acquireChars(int minCapacity) {
+        int index = classIndex(minCapacity);
+        if (index < 0) {
+            return null;
+        }
+        CharBuffer buffer = charPools[index].poll();
+        if (buffer == null) {
+            buffer = CharBuffer.allocate(capacityOf(index));
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        int index = exactClassIndex(buffer.capacity());
+        if (index >= 0) {
+            bytePools[index].offer(buffer);
+        }
+    }
+
+    public void release(CharBuffer buffer) {
+        int index = exactClassIndex(buffer.capacity());
+        if (index >= 0) {
+            charPools[index].offer(buffer);
+        }
+    }
+
+    private static int capacityOf(int index) {
+        return 1 << (MIN_SHIFT + index * CLASS_STEP);
+    }
+
+    private static int classIndex(int minCapacity) {
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            if (capacityOf(i) >= minCapacity) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 풀에서 만든 버퍼만 돌려받음 (slice/wrap 으로 만든 다른 크기는 버림)
+    private static int exactClassIndex(int capacity) {
+        int index = classIndex(capacity);
+        return index >= 0 && capacityOf(index) == capacity ? index : -1;
+    }
+}
@@ -0,0 +1,27 @@
+package hello.springmvc.support.buffer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/* TextBody 파라미터 + 버퍼 반납 인터셉터 등록 */
+@Configuration
+@RequiredArgsConstructor
+public class BufferPoolConfig implements WebMvcConfigurer {
+
+    private final BufferPool bufferPool;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new TextBodyArgumentResolver(bufferPool));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BufferLeaseInterceptor());
+    }
+}
@@ -0,0 +1,39 @@
+package hello.springmvc.support.buffer;
+/*
+    #. 고정 크기 슬롯 풀
+    : 슬롯 배열에 CAS 로 넣고 빼는 단순한 lock-free 풀
+      ConcurrentLinkedQueue 는 넣을때마다 노드 객체를 만들어서 => 풀을 쓰는 의미가 줄어듦
+      슬롯 수가 작으니(수십개) 처음부터 훑어도 충분히 빠름
+*/
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+class SlotPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+
+    SlotPool(int capacity) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /* 비어 있으면 null = 호출하는 쪽에서 새로 만듦 */
+    T poll() {
+        for (int i = 0; i < slots.length(); i++) {
+            T item = slots.get(i);
+            if (item != null && slots.compareAndSet(i, item, null)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /* 가득 차 있으면 false = 그냥 버림(GC 가 회수) */
+    boolean offer(T item) {
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) == null && slots.compareAndSet(i, null, item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
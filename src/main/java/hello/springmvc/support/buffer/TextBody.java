@@ -0,0 +1,43 @@
+package hello.springmvc.support.buffer;
+/*
+    #. 읽기 전용 텍스트 바디
+    : 컨트롤러 파라미터로 TextBody 를 선언하면 => HTTP 메시지 바디를 풀에서 빌린 CharBuffer 에 UTF-8 로 디코딩해서 넘겨줌
+      String 을 만들지 않고 CharSequence 로 바로 다룰 수 있음 (length, charAt, 정규식 Matcher 등)
+
+    [주의]
+     a. 요청이 끝나면 버퍼가 풀로 돌아감 => 핸들러 밖으로 TextBody 를 들고 나가면 안 됨(필드에 저장 X, 비동기 X)
+        필요하면 toString() 으로 복사본을 만들어서 보관
+     b. toString() 은 String 을 새로 만듦 = 로그에 {} 로 넘기면 그 레벨이 켜져 있을때 복사가 일어남
+*/
+
+import java.nio.CharBuffer;
+
+public final class TextBody implements CharSequence {
+
+    private final CharBuffer chars; // position=0, limit=디코딩된 길이
+
+    TextBody(CharBuffer chars) {
+        this.chars = chars;
+    }
+
+    @Override
+    public int length() {
+        return chars.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars.get(index);
+    }
+
+    // 같은 버퍼를 공유하는 읽기 전용 뷰 = 요청이 끝나면 같이 무효
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return chars.subSequence(start, end).asReadOnlyBuffer();
+    }
+
+    @Override
+    public String toString() {
+        return chars.toString();
+    }
+}
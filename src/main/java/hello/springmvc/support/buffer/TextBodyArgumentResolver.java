@@ -0,0 +1,38 @@
+package hello.springmvc.support.buffer;
+/*
+    #. TextBody 파라미터 처리
+    : 핸들러 파라미터 타입이 TextBody 면 => 풀에서 버퍼를 빌려 바디를 읽어서 넘겨줌
+      빌린 버퍼(BodyLease)는 요청 속성에 넣어두고, 요청이 끝날때 BufferLeaseInterceptor 가 반납
+*/
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+
+@RequiredArgsConstructor
+public class TextBodyArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String LEASE_ATTRIBUTE = TextBodyArgumentResolver.class.getName() + ".LEASE";
+
+    private final BufferPool bufferPool;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return TextBody.class == parameter.getParameterType();
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        BodyLease lease = new BodyLease(bufferPool);
+        // 읽다가 예외가 나도 반납되도록 먼저 등록
+        request.setAttribute(LEASE_ATTRIBUTE, lease);
+        return lease.read(request.getInputStream(), request.getContentLengthLong());
+    }
+}
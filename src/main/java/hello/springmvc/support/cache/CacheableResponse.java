@@ -0,0 +1,22 @@
+package hello.springmvc.support.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    #. 응답 바이트 캐시 (GET 핸들러 메서드에 붙임)
+    : 같은 URI(경로 + 정렬한 쿼리) 의 두번째 요청부터 => 디스패처, 바인딩, 메시지 컨버터를 거치지 않고 저장해 둔 바이트를 그대로 씀
+      같은 경로(또는 그 아래 경로) 에 PATCH / PUT / DELETE 가 성공하면 지움
+    [주의] 결과가 경로와 쿼리만으로 정해지는 핸들러에만 (헤더, 쿠키, 세션, 시간에 따라 달라지면 안 됨)
+*/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheableResponse {
+
+    /* 저장해 둔 응답을 쓰는 시간(초) */
+    long ttlSeconds() default 60;
+}
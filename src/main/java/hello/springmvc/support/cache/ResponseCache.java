@@ -0,0 +1,114 @@
+package hello.springmvc.support.cache;
+/*
+    #. 응답 바이트 저장소 = Caffeine (W-TinyLFU)
+    : 크기 제한 = 저장한 바이트 합 (max-bytes), 넘으면 자주 안 쓰는 것부터 버림
+       => 한번 스쳐간 URI 가 자주 쓰는 사용자 조회 응답을 밀어내지 않음 (LRU 와 다른 점)
+      항목마다 @CacheableResponse(ttlSeconds) 만큼 유지
+      히트/미스/버림 카운터 => /metrics
+
+    [설정] hello.response-cache.max-bytes=16MB
+*/
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import hello.springmvc.support.metrics.MetricsContributor;
+import hello.springmvc.support.metrics.MetricsWriter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ResponseCache implements MetricsContributor {
+
+    // 키, 배열 헤더 등 바디 말고 드는 대략의 크기
+    private static final int ENTRY_OVERHEAD = 96;
+
+    // 키에서 Accept 앞에 붙는 구분자 (요청 줄에도 인코딩한 경로에도 나올 수 없는 문자)
+    static final char ACCEPT_SEPARATOR = '\n';
+
+    private final Cache<String, Entry> cache;
+    private final LongAdder invalidations = new LongAdder();
+
+    public ResponseCache(long maxBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> ENTRY_OVERHEAD + key.length() * 2 + entry.body.length)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    Entry get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    void put(String key, Entry entry) {
+        cache.put(key, entry);
+    }
+
+    /* 경로 자신 + 그 아래 경로의 항목을 지움 (쿼리나 Accept 가 다른 항목 포함), 변경 요청은 드물어서 전체를 훑음 */
+    void invalidatePath(String path) {
+        cache.asMap().keySet().removeIf(key -> {
+            char next = key.length() > path.length() ? key.charAt(path.length()) : 0;
+            boolean match = key.startsWith(path) && (key.length() == path.length()
+                    || next == '?' || next == '/' || next == ACCEPT_SEPARATOR);
+            if (match) {
+                invalidations.increment();
+            }
+            return match;
+        });
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public void contribute(MetricsWriter writer) {
+        CacheStats stats = cache.stats();
+        writer.gauge("hello_response_cache_entries", "Responses held in the cache", size())
+                .counter("hello_response_cache_hits_total", "Requests served from the cache", stats.hitCount())
+                .counter("hello_response_cache_misses_total", "Cacheable requests that ran the handler", stats.missCount())
+                .counter("hello_response_cache_evictions_total", "Entries dropped by size or TTL", stats.evictionCount())
+                .counter("hello_response_cache_evicted_bytes_total", "Weight of the evicted entries", stats.evictionWeight())
+                .counter("hello_response_cache_invalidations_total", "Entries dropped by PATCH/PUT/DELETE", getInvalidations());
+    }
+
+    static final class Entry {
+        final byte[] body;
+        final String contentType;
+        final String pattern; // 처리한 매핑 패턴 = 히트 때도 요청 속성으로 남김 (라우트별 지표)
+        final long ttlNanos;
+
+        Entry(byte[] body, String contentType, String pattern, long ttlSeconds) {
+            this.body = body;
+            this.contentType = contentType;
+            this.pattern = pattern;
+            this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        }
+    }
+}
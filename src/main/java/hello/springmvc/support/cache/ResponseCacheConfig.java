@@ -0,0 +1,31 @@
+package hello.springmvc.support.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/* 응답 캐시 필터 등록 = 지표 필터 바로 안쪽 (히트면 나머지 필터도 건너뜀) */
+@Configuration
+@ConditionalOnProperty(name = "hello.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(@Value("${hello.response-cache.max-bytes:16MB}") DataSize maxBytes) {
+        return new ResponseCache(maxBytes.toBytes());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCache responseCache, ObjectProvider<RequestMappingHandlerMapping> requestMappingHandlerMapping) {
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache, requestMappingHandlerMapping));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,181 @@
+package hello.springmvc.support.cache;
+/*
+    #. 응답 캐시 필터 (디스패처 앞)
+     a. GET / HEAD + @CacheableResponse 핸들러의 패턴에 맞는 경로
+        - 히트 = 저장한 Content-Type, Content-Length, 바디를 바로 씀 (HEAD 는 바디 X), 매핑 패턴은 요청 속성으로 남김
+        - 미스 = 응답을 버퍼에 받으면서 처리 => 실제로 @CacheableResponse 핸들러가 처리했고 200 이면 저장
+     b. PATCH / PUT / DELETE 가 성공(2xx) 하면 => 그 경로와 아래 경로의 항목을 지움
+    키 = 경로 + ? + 이름순으로 정렬한 쿼리 + 줄바꿈 + Accept
+      경로 = 세그먼트마다 디코딩해서 다시 한가지 방식으로 인코딩, // 와 끝의 / 정리 => /users/a%62c 와 /users/abc 는 같은 항목
+             (매핑과 같은 기준 = PathContainer 의 valueToMatch, 잘못된 %-이스케이프는 캐시하지 않음)
+      쿼리 = ?b=2&a=1 과 ?a=1&b=2 는 같은 항목
+      Accept = 같은 경로라도 Accept 에 따라 다른 표현(JSON / 문자열) 이 나올 수 있음 => 없거나 모두 허용(MediaType.ALL) 이면 붙이지 않음
+    캐시할 패턴 목록은 첫 요청 때 RequestMappingHandlerMapping 에서 한번 모음
+*/
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Slf4j
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private final ResponseCache cache;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private volatile List<PathPattern> patterns;
+
+    public ResponseCacheFilter(ResponseCache cache, ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.cache = cache;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+        String path = normalizePath(request);
+        if (path == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (read && cacheable(path)) {
+            serveCached(request, response, chain, path);
+            return;
+        }
+        chain.doFilter(request, response);
+        if (("PATCH".equals(method) || "PUT".equals(method) || "DELETE".equals(method))
+                && HttpStatus.Series.resolve(response.getStatus()) == HttpStatus.Series.SUCCESSFUL) {
+            cache.invalidatePath(path);
+        }
+    }
+
+    private void serveCached(HttpServletRequest request, HttpServletResponse response, FilterChain chain, String path)
+            throws ServletException, IOException {
+        String key = key(path, request.getQueryString(), request.getHeader(HttpHeaders.ACCEPT));
+        ResponseCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            // 디스패처를 거치지 않으므로 핸들러 매핑 대신 남김 => RequestMetricsFilter 가 "other" 가 아닌 원래 라우트로 집계
+            if (entry.pattern != null) {
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, entry.pattern);
+            }
+            response.setContentType(entry.contentType);
+            response.setContentLength(entry.body.length);
+            if (!"HEAD".equals(request.getMethod())) {
+                response.getOutputStream().write(entry.body);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        CacheableResponse cacheable = handledBy(request);
+        if (cacheable != null && "GET".equals(request.getMethod()) && !isAsyncStarted(request)
+                && wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentType() != null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            cache.put(key, new ResponseCache.Entry(wrapper.getContentAsByteArray(), wrapper.getContentType(),
+                    pattern == null ? null : pattern.toString(), cacheable.ttlSeconds()));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    // 패턴이 맞아도 더 구체적인 다른 매핑이 처리했을 수 있음 => 실제 핸들러로 확인
+    private static CacheableResponse handledBy(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return handler instanceof HandlerMethod
+                ? ((HandlerMethod) handler).getMethodAnnotation(CacheableResponse.class) : null;
+    }
+
+    private boolean cacheable(String path) {
+        List<PathPattern> patterns = cacheablePatterns();
+        if (patterns.isEmpty()) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<PathPattern> cacheablePatterns() {
+        List<PathPattern> result = patterns;
+        if (result == null) {
+            List<PathPattern> found = new ArrayList<>();
+            RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+            if (mapping != null) {
+                mapping.getHandlerMethods().forEach((RequestMappingInfo info, HandlerMethod handlerMethod) -> {
+                    if (handlerMethod.hasMethodAnnotation(CacheableResponse.class) && info.getPathPatternsCondition() != null) {
+                        found.addAll(info.getPathPatternsCondition().getPatterns());
+                    }
+                });
+            }
+            result = found;
+            patterns = result;
+            log.info("response cache patterns={}", result);
+        }
+        return result;
+    }
+
+    /* 리턴값 = null 이면 디코딩할 수 없는 경로 (%zz 등) */
+    static String normalizePath(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        List<PathContainer.Element> elements;
+        try {
+            elements = PathContainer.parsePath(uri).elements();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(uri.length());
+        for (PathContainer.Element element : elements) {
+            if (element instanceof PathContainer.PathSegment) {
+                String value = ((PathContainer.PathSegment) element).valueToMatch();
+                if (!value.isEmpty()) {
+                    // 모든 예약 문자를 인코딩 => 디코딩된 ? / ; 가 키 구분자나 다른 세그먼트와 섞이지 않음
+                    sb.append('/').append(UriUtils.encode(value, StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return sb.length() == 0 ? "/" : sb.toString();
+    }
+
+    static String key(String path, String query, String accept) {
+        String key;
+        if (query == null || query.isEmpty()) {
+            key = path;
+        } else if (query.indexOf('&') < 0) {
+            key = path + '?' + query;
+        } else {
+            String[] params = query.split("&");
+            Arrays.sort(params);
+            key = path + '?' + String.join("&", params);
+        }
+        if (accept == null || accept.isEmpty() || MediaType.ALL_VALUE.equals(accept)) {
+            return key;
+        }
+        return key + ResponseCache.ACCEPT_SEPARATOR + accept;
+    }
+}
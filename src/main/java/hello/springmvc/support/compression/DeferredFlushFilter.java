@@ -0,0 +1,46 @@
+package hello.springmvc.support.compression;
+/*
+    #. 압축 기준 크기(min-response-size) 가 작은 응답에도 지켜지게 하는 필터
+    : 톰캣은 Content-Length 를 모르는 응답은 크기와 상관없이 압축함
+      메시지 컨버터(@ResponseBody JSON) 는 쓰고 나서 바로 flush => 길이를 모르는 채로 커밋(chunked) 됨
+      => "ok" 같은 몇 바이트 JSON 도 gzip 헤더(약 20바이트) 를 붙여서 CPU 만 쓰고 오히려 커짐
+
+      그래서 기준 크기만큼 쓰기 전의 flush 는 미룸
+       a. 작은 응답 = 톰캣 버퍼에 남아 있다가 요청이 끝날 때 톰캣이 Content-Length 를 붙여서 보냄 => 압축 안 함
+       b. 큰 응답 / 스트리밍 = 기준 크기를 넘은 뒤의 flush 는 그대로 => 압축하면서 바로바로 나감
+       c. 첫 바이트가 빨리 나가야 하는 응답(@StreamingView) = 요청 속성 FLUSH_IMMEDIATELY_ATTRIBUTE 를 달면 flush 를 미루지 않음
+          (목록 앞의 <head> 가 기준 크기만큼 행이 쌓일 때까지 붙잡혀 있지 않게)
+
+    [설정] server.compression.enabled=true 일 때만 등록, 기준 크기 = server.compression.min-response-size
+*/
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class DeferredFlushFilter extends OncePerRequestFilter {
+
+    public static final String FLUSH_IMMEDIATELY_ATTRIBUTE = DeferredFlushFilter.class.getName() + ".flushImmediately";
+
+    private final long threshold;
+
+    public DeferredFlushFilter(@Value("${server.compression.min-response-size:2KB}") DataSize threshold) {
+        this.threshold = threshold.toBytes();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(request, new DeferredFlushResponseWrapper(request, response, threshold));
+    }
+}
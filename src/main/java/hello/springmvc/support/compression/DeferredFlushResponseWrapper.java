@@ -0,0 +1,132 @@
+package hello.springmvc.support.compression;
+/*
+    #. 쓴 양을 세어서 기준 크기 전까지는 flush 를 무시하는 응답 래퍼
+    : 쓰기는 그대로 원래 응답(톰캣 버퍼) 으로 감 = 복사 X
+      Writer 는 문자 수로 셈 (한글은 UTF-8 에서 3바이트라 실제보다 적게 셈 => 조금 늦게 flush 될 뿐)
+      요청에 DeferredFlushFilter.FLUSH_IMMEDIATELY_ATTRIBUTE 가 있으면 기준 크기와 상관없이 flush (@StreamingView)
+*/
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+class DeferredFlushResponseWrapper extends HttpServletResponseWrapper {
+
+    private final HttpServletRequest request;
+    private final long threshold;
+    private long written;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    DeferredFlushResponseWrapper(HttpServletRequest request, HttpServletResponse response, long threshold) {
+        super(response);
+        this.request = request;
+        this.threshold = threshold;
+    }
+
+    private boolean flushAllowed() {
+        return written >= threshold || request.getAttribute(DeferredFlushFilter.FLUSH_IMMEDIATELY_ATTRIBUTE) != null;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (flushAllowed()) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new CountingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    private class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            written += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (flushAllowed()) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private class CountingWriter extends Writer {
+        private final PrintWriter delegate;
+
+        CountingWriter(PrintWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            delegate.write(cbuf, off, len);
+            written += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            delegate.write(str, off, len);
+            written += len;
+        }
+
+        @Override
+        public void flush() {
+            if (flushAllowed()) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
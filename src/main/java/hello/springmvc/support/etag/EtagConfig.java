@@ -0,0 +1,24 @@
+package hello.springmvc.support.etag;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/* @EtagVersion 304 인터셉터 등록 (@HashedEtag 는 JsonEtagAdvice = @ControllerAdvice 로 자동 등록) */
+@Configuration
+public class EtagConfig implements WebMvcConfigurer {
+
+    private final EtagStats etagStats;
+    private final boolean weak;
+
+    public EtagConfig(EtagStats etagStats, @Value("${server.compression.enabled:false}") boolean weak) {
+        this.etagStats = etagStats;
+        this.weak = weak;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EtagVersionInterceptor(etagStats, weak));
+    }
+}
@@ -0,0 +1,24 @@
+package hello.springmvc.support.etag;
+
+import hello.springmvc.support.metrics.MetricsContributor;
+import hello.springmvc.support.metrics.MetricsWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/* ETag 카운터 => /metrics */
+@Component
+public class EtagStats implements MetricsContributor {
+
+    final LongAdder hashed = new LongAdder();
+    final LongAdder hashNotModified = new LongAdder();
+    final LongAdder versionNotModified = new LongAdder();
+
+    @Override
+    public void contribute(MetricsWriter writer) {
+        writer.counter("hello_etag_hashed_total", "JSON responses serialized once and hashed for an ETag", hashed.sum())
+                .family("hello_etag_not_modified_total", "counter", "304 responses by ETag source")
+                .sample("hello_etag_not_modified_total", MetricsWriter.label("source", "hash"), hashNotModified.sum())
+                .sample("hello_etag_not_modified_total", MetricsWriter.label("source", "version"), versionNotModified.sum());
+    }
+}
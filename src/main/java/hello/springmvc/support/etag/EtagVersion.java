@@ -0,0 +1,21 @@
+package hello.springmvc.support.etag;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    #. 핸들러가 정해주는 ETag 버전 (GET JSON 핸들러 메서드에 붙임)
+    : 응답이 바뀔 때만 값을 올림 => If-None-Match 가 같으면 핸들러 실행 / 직렬화 없이 바로 304
+      붙이지 않은 JSON 응답은 직렬화한 바이트의 해시(FNV-1a 64) 로 ETag 를 만듦
+    [주의] 결과가 경로 / 쿼리 / 헤더에 따라 달라지는 핸들러에는 쓰면 안 됨 (모든 요청에 같은 버전)
+*/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EtagVersion {
+
+    String value();
+}
@@ -0,0 +1,40 @@
+package hello.springmvc.support.etag;
+
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/*
+    @EtagVersion 핸들러 = 핸들러 실행 전에 If-None-Match 확인
+     같으면 304 로 끝 (핸들러, 메시지 컨버터 실행 X), 다르면 ETag 헤더만 달고 진행 => JsonEtagAdvice 는 해시를 건너뜀
+     weak = 응답 압축이 켜져 있으면 약한 ETag (톰캣은 강한 ETag 응답을 압축하지 않음)
+*/
+public class EtagVersionInterceptor implements HandlerInterceptor {
+
+    private final EtagStats stats;
+    private final boolean weak;
+
+    public EtagVersionInterceptor(EtagStats stats, boolean weak) {
+        this.stats = stats;
+        this.weak = weak;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        EtagVersion version = ((HandlerMethod) handler).getMethodAnnotation(EtagVersion.class);
+        if (version == null) {
+            return true;
+        }
+        if (new ServletWebRequest(request, response).checkNotModified((weak ? "W/\"" : "\"") + version.value() + '"')) {
+            stats.versionNotModified.increment();
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package hello.springmvc.support.etag;
+
+/* FNV-1a 64비트 해시 = 바이트당 xor + 곱하기 한번, 암호용 아님 (ETag 비교용으로 충분) */
+final class Fnv64 {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private Fnv64() {
+    }
+
+    static long hash(byte[] bytes) {
+        long hash = OFFSET_BASIS;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= PRIME;
+        }
+        return hash;
+    }
+
+    /* 강한 ETag = "16자리 hex" */
+    static String etag(byte[] bytes) {
+        long hash = hash(bytes);
+        char[] chars = new char[18];
+        chars[0] = '"';
+        for (int i = 16; i >= 1; i--) {
+            chars[i] = HEX[(int) (hash & 0xf)];
+            hash >>>= 4;
+        }
+        chars[17] = '"';
+        return new String(chars);
+    }
+}
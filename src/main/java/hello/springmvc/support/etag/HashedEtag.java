@@ -0,0 +1,18 @@
+package hello.springmvc.support.etag;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    #. 직렬화한 JSON 바이트의 해시(FNV-1a 64) 로 ETag 달기 (GET JSON 핸들러 메서드에 붙임, JsonEtagAdvice)
+    : 응답 전체를 byte[] 로 한번 직렬화해야 해시를 구할 수 있음 => 작고 자주 다시 받는 응답에만 붙일 것
+      (큰 목록은 JSON 스트리밍, 버전을 아는 응답은 @EtagVersion)
+*/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HashedEtag {
+}
@@ -0,0 +1,94 @@
+package hello.springmvc.support.etag;
+/*
+    #. @HashedEtag JSON 응답(@ResponseBody, ResponseEntity) 에 ETag 달기
+    : 컨버터가 쓰기 직전에 => JsonCodecRegistry 의 ObjectWriter 로 한번 직렬화 + FNV-1a 64 해시 = ETag
+       a. If-None-Match 가 같으면 304 + 바디 없음 => 네트워크 절약
+       b. 다르면 직렬화한 바이트를 바로 씀 (Content-Length 포함) => 컨버터가 다시 직렬화하지 않음
+    건너뜀 = @HashedEtag 가 없음, GET/HEAD 가 아님, 200 이 아님, 이미 ETag 가 있음(ResponseEntity.eTag(...) / @EtagVersion)
+     (ResponseEntity 에 ETag 를 직접 달면 스프링이 직렬화 전에 If-None-Match 를 확인해서 304)
+    [압축] 톰캣은 강한 ETag 가 달린 응답은 압축하지 않음 (압축하면 바이트가 달라지므로)
+     => server.compression.enabled=true 면 약한 ETag(W/"...") 로 달아서 큰 JSON 응답 압축이 그대로 동작
+*/
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import hello.springmvc.support.json.JsonCodecRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@ControllerAdvice
+public class JsonEtagAdvice implements ResponseBodyAdvice<Object> {
+
+    private final JsonCodecRegistry jsonCodecRegistry;
+    private final EtagStats stats;
+    private final boolean weak;
+
+    public JsonEtagAdvice(JsonCodecRegistry jsonCodecRegistry, EtagStats stats,
+                          @Value("${server.compression.enabled:false}") boolean weak) {
+        this.jsonCodecRegistry = jsonCodecRegistry;
+        this.stats = stats;
+        this.weak = weak;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                && returnType.hasMethodAnnotation(HashedEtag.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || body instanceof MappingJacksonValue
+                || !(request instanceof ServletServerHttpRequest) || !(response instanceof ServletServerHttpResponse)) {
+            return body;
+        }
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        HttpServletResponse servletResponse = ((ServletServerHttpResponse) response).getServletResponse();
+        String method = servletRequest.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method) || servletResponse.getStatus() != HttpStatus.OK.value()
+                || response.getHeaders().getETag() != null || servletResponse.containsHeader(HttpHeaders.ETAG)) {
+            return body;
+        }
+
+        byte[] json;
+        try {
+            json = jsonCodecRegistry.writer(body.getClass()).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+        stats.hashed.increment();
+        // 304 면 상태와 ETag 헤더가 여기서 정해짐, 아니면 ETag 헤더만 달림
+        if (new ServletWebRequest(servletRequest, servletResponse).checkNotModified(weak ? "W/" + Fnv64.etag(json) : Fnv64.etag(json))) {
+            stats.hashNotModified.increment();
+            return null;
+        }
+        response.getHeaders().setContentType(selectedContentType);
+        response.getHeaders().setContentLength(json.length);
+        try {
+            response.getBody().write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null; // 이미 썼으므로 컨버터는 아무것도 안 함
+    }
+}
@@ -0,0 +1,17 @@
+package hello.springmvc.support.header;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/* RequestHeaders 파라미터 처리 등록 */
+@Configuration
+public class HeaderConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new RequestHeadersArgumentResolver());
+    }
+}
@@ -0,0 +1,50 @@
+package hello.springmvc.support.header;
+/*
+    #. 헤더 이름 상수
+    : 자주 쓰는 헤더 이름을 상수로 한번만 만들어 두고 재사용 (소문자 = HTTP/2 표기와 같음)
+      조회할 때마다 "host" 같은 문자열을 새로 만들거나 대소문자 변환을 하지 않음
+      여기 없는 헤더는 RequestHeaders.get(String) 으로 이름 그대로 조회
+*/
+
+public final class HeaderName {
+
+    public static final HeaderName HOST = new HeaderName("host");
+    public static final HeaderName USER_AGENT = new HeaderName("user-agent");
+    public static final HeaderName ACCEPT = new HeaderName("accept");
+    public static final HeaderName ACCEPT_ENCODING = new HeaderName("accept-encoding");
+    public static final HeaderName ACCEPT_LANGUAGE = new HeaderName("accept-language");
+    public static final HeaderName CONTENT_TYPE = new HeaderName("content-type");
+    public static final HeaderName CONTENT_LENGTH = new HeaderName("content-length");
+    public static final HeaderName COOKIE = new HeaderName("cookie");
+    public static final HeaderName AUTHORIZATION = new HeaderName("authorization");
+    public static final HeaderName CONNECTION = new HeaderName("connection");
+    public static final HeaderName IF_NONE_MATCH = new HeaderName("if-none-match");
+    public static final HeaderName IF_MODIFIED_SINCE = new HeaderName("if-modified-since");
+    public static final HeaderName REFERER = new HeaderName("referer");
+    public static final HeaderName X_FORWARDED_FOR = new HeaderName("x-forwarded-for");
+
+    private final String value;
+
+    private HeaderName(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof HeaderName && value.equals(((HeaderName) o).value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
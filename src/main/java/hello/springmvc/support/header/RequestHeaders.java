@@ -0,0 +1,75 @@
+package hello.springmvc.support.header;
+/*
+    #. 지연(lazy) 헤더 뷰
+    : @RequestHeader MultiValueMap 은 요청마다 모든 헤더를 LinkedMultiValueMap 에 복사함
+      RequestHeaders 는 컨테이너(톰캣)가 이미 들고 있는 헤더 저장소를 감싸기만 하고, get 할 때 그 이름만 조회
+      => 헤더가 몇개가 오든 요청당 비용이 일정
+
+    [로그]
+    log.info("headers={}", headers) 처럼 {} 로 넘기면 => 해당 레벨이 켜져 있을 때만 toString() 에서 전체 헤더를 문자열로 만듦
+    (주의) log.info("headers=" + headers) 처럼 + 로 붙이면 레벨과 상관없이 매번 만들어짐
+*/
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+public final class RequestHeaders {
+
+    private final HttpServletRequest request;
+
+    public RequestHeaders(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    /* 첫번째 값, 없으면 null = 톰캣은 대소문자 구분 없이 바이트 비교로 찾음 */
+    public String get(HeaderName name) {
+        return request.getHeader(name.value());
+    }
+
+    public String get(String name) {
+        return request.getHeader(name);
+    }
+
+    public boolean has(HeaderName name) {
+        return request.getHeader(name.value()) != null;
+    }
+
+    public List<String> getAll(HeaderName name) {
+        Enumeration<String> values = request.getHeaders(name.value());
+        if (values == null || !values.hasMoreElements()) {
+            return Collections.emptyList();
+        }
+        List<String> list = new ArrayList<>(2);
+        while (values.hasMoreElements()) {
+            list.add(values.nextElement());
+        }
+        return list;
+    }
+
+    // 로그 레벨이 켜져 있을 때만 불림
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(256).append('{');
+        Enumeration<String> names = request.getHeaderNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            sb.append(name).append('=');
+            Enumeration<String> values = request.getHeaders(name);
+            sb.append('[');
+            while (values.hasMoreElements()) {
+                sb.append(values.nextElement());
+                if (values.hasMoreElements()) {
+                    sb.append(", ");
+                }
+            }
+            sb.append(']');
+            if (names.hasMoreElements()) {
+                sb.append(", ");
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
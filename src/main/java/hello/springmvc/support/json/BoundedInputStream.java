@@ -0,0 +1,82 @@
+package hello.springmvc.support.json;
+/*
+    #. 요청 바디 크기 제한 스트림
+    : 원본 InputStream 을 그대로 흘려보내면서 읽은 바이트 수만 센다.
+      제한(maxBytes)을 넘는 순간 LimitExceededException 으로 끊어줌 => 바디 전체를 메모리에 올리지 않고도 상한을 걸 수 있음
+    [주의] 잭슨 안에서 읽다가 넘으면 JsonMappingException 의 cause 로 감싸져서 나올 수 있음
+          => 받는 쪽은 isLimitExceeded(e) 로 원인을 따라가서 413 / 400 을 나눠야 함
+*/
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class BoundedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long count;
+
+    public BoundedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            advance(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            advance(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        advance(skipped);
+        return skipped;
+    }
+
+    // mark/reset 을 허용하면 카운트가 틀어지므로 막아둠
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    private void advance(long n) throws LimitExceededException {
+        count += n;
+        if (count > maxBytes) {
+            throw new LimitExceededException(maxBytes);
+        }
+    }
+
+    /* 원인(cause) 을 따라가면서 크기 초과로 끊긴 것인지 */
+    public static boolean isLimitExceeded(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof LimitExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static class LimitExceededException extends IOException {
+
+        public LimitExceededException(long maxBytes) {
+            super("request body exceeds " + maxBytes + " bytes");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package hello.springmvc.support.json;
+/*
+    #. JSON 코덱 등록
+    : 여기에 등록한 타입은 시작할때 미리 ObjectReader/ObjectWriter 를 만들고 웜업함
+      새로운 요청/응답 타입이 생기면 여기에 한줄 추가
+*/
+
+import hello.springmvc.basic.HelloData;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JsonCodecConfig {
+
+    public JsonCodecConfig(JsonCodecRegistry jsonCodecRegistry) {
+        jsonCodecRegistry.register(HelloData.class, sampleHelloData());
+    }
+
+    private static HelloData sampleHelloData() {
+        HelloData helloData = new HelloData();
+        helloData.setUsername("warm-up");
+        helloData.setAge(20);
+        return helloData;
+    }
+}
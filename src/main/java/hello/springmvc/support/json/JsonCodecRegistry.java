@@ -0,0 +1,77 @@
+package hello.springmvc.support.json;
+/*
+    #. JSON 코덱 레지스트리
+    : 컨트롤러마다 new ObjectMapper() 를 만들면 => 스프링 부트가 @RequestBody/@ResponseBody 에 쓰는 ObjectMapper 와 별개라서
+      직렬화기/역직렬화기 캐시를 각자 따로 데워야 함 (첫 요청이 느림)
+      => 부트가 등록한 ObjectMapper 하나에서 타입별 ObjectReader/ObjectWriter 를 미리 만들어서 나눠줌
+         ObjectReader/ObjectWriter 는 불변이라 여러 쓰레드에서 같이 써도 안전함
+
+    [웜업]
+    register(타입, 샘플) 로 등록해두면 => 모든 싱글톤 빈이 만들어진 직후(톰캣이 요청 받기 전)에
+    샘플을 한번 쓰고 읽어서 캐시를 채워둠 => 메시지 컨버터도 같은 ObjectMapper 를 쓰므로 같이 데워짐
+*/
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class JsonCodecRegistry implements SmartInitializingSingleton {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> samples = new ConcurrentHashMap<>();
+
+    public JsonCodecRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /* 타입 등록 = 시작할때 sample 로 웜업 */
+    public <T> void register(Class<T> type, T sample) {
+        reader(type);
+        writer(type);
+        samples.put(type, sample);
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        samples.forEach(this::warmUp);
+        log.info("json codecs warmed up types={} elapsed={}ms",
+                samples.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void warmUp(Class<?> type, Object sample) {
+        try {
+            byte[] json = writer(type).writeValueAsBytes(sample);
+            reader(type).readValue(json);
+            // 메시지 컨버터가 매 요청마다 묻는 canSerialize/canDeserialize 도 같은 캐시를 씀
+            objectMapper.canSerialize(type);
+            objectMapper.canDeserialize(objectMapper.constructType(type));
+        } catch (IOException e) {
+            throw new UncheckedIOException("json warm-up failed for " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package hello.springmvc.support.json;
+/*
+    #. JSON 스트리밍 읽기
+    : StreamUtils.copyToString => objectMapper.readValue(String) 방식은
+      바디를 String 으로 한번, 파싱하면서 또 한번 => 힙에 바디 크기만큼 두벌이 올라감.
+      JsonParser 로 InputStream 에서 바로 토큰을 읽으면 파서 내부 버퍼(수 KB)만 사용 => 바디 크기와 무관하게 메모리 일정
+
+    [지원 형식]
+     a. 단일 객체     {"username":"a", "age":1}
+     b. JSON 배열     [{"username":"a", "age":1}, {"username":"b", "age":2}]
+     c. NDJSON       {"username":"a", "age":1}\n{"username":"b", "age":2}
+        => 루트 레벨에 값이 연달아 오는 형식, Jackson 파서가 기본으로 허용함
+*/
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+@Component
+public class JsonRecordReader {
+
+    // 공용 레지스트리의 ObjectReader 사용 = @RequestBody 와 같은 설정, 같은 캐시
+    private final JsonCodecRegistry jsonCodecRegistry;
+
+    public JsonRecordReader(JsonCodecRegistry jsonCodecRegistry) {
+        this.jsonCodecRegistry = jsonCodecRegistry;
+    }
+
+    /* 단일 객체 읽기 = String 을 거치지 않고 스트림에서 바로 객체로 */
+    public <T> T readOne(InputStream inputStream, Class<T> type) throws IOException {
+        ObjectReader reader = jsonCodecRegistry.reader(type);
+        try (JsonParser parser = reader.createParser(inputStream)) {
+            return reader.readValue(parser);
+        }
+    }
+
+    /*
+        여러 건 읽기 = 배열 또는 NDJSON
+        : 한 건 읽을때마다 consumer 에 넘기고 바로 버림 => 동시에 메모리에 있는 레코드는 항상 1건
+          리턴값 = 처리한 레코드 수
+    */
+    public <T> long readEach(InputStream inputStream, Class<T> type, Consumer<? super T> consumer) throws IOException {
+        ObjectReader reader = jsonCodecRegistry.reader(type);
+        try (JsonParser parser = reader.createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken(); // 배열이면 [ 는 건너뛰고 원소부터
+            }
+            long count = 0;
+            while (token != null && token != JsonToken.END_ARRAY) {
+                // 파서가 START_OBJECT 에 있으면 readValue 는 그 객체 하나만 읽고 END_OBJECT 에서 멈춤
+                T value = reader.readValue(parser);
+                consumer.accept(value);
+                count++;
+                token = parser.nextToken();
+            }
+            return count;
+        }
+    }
+}
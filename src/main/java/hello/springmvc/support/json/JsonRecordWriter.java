@@ -0,0 +1,111 @@
+package hello.springmvc.support.json;
+/*
+    #. JSON 스트리밍 쓰기 (JsonRecordReader 의 반대)
+    : List<HelloData> 를 @ResponseBody 로 리턴하면 => 목록 전체를 메모리에 만든 뒤에 메시지 컨버터가 한번에 직렬화
+      => 만 건, 십만 건이면 목록 + 직렬화 버퍼가 전부 힙에 올라감
+      여기서는 Iterator/Stream 에서 한 건씩 꺼내서 JsonGenerator 로 응답 스트림에 바로 씀
+      => 힙에는 지금 쓰는 한 건 + 제너레이터 버퍼(수 KB)만 있음, 전체 건수와 상관없이 일정
+
+    [형식]
+     a. JSON 배열 = [{...},{...}]                 application/json
+     b. NDJSON   = 한 줄에 객체 하나 {...}\n{...}\n   application/x-ndjson
+    [flush]
+     hello.json.stream.flush-every=1000 => N 건마다 flush (클라이언트가 앞부분부터 받기 시작함, 0 이하 = 1 건마다)
+     ObjectWriter 기본값(FLUSH_AFTER_WRITE_VALUE)은 한 건마다 flush 해서 청크가 너무 잘게 쪼개지므로 끔
+*/
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+public class JsonRecordWriter {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final JsonCodecRegistry jsonCodecRegistry;
+    private final int flushEvery;
+
+    public JsonRecordWriter(JsonCodecRegistry jsonCodecRegistry,
+                            @Value("${hello.json.stream.flush-every:1000}") int flushEvery) {
+        this.jsonCodecRegistry = jsonCodecRegistry;
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+/*
+    응답으로 = StreamingResponseBody (스프링이 요청 쓰레드를 놓아주고 비동기 쓰레드에서 씀)
+    : 다 쓰거나 실패하면 records 스트림을 닫음
+*/
+    public <T> ResponseEntity<StreamingResponseBody> array(Stream<? extends T> records, Class<T> type) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> {
+                    try (records) {
+                        writeArray(out, records.iterator(), type);
+                    }
+                });
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> ndjson(Stream<? extends T> records, Class<T> type) {
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(out -> {
+                    try (records) {
+                        writeLines(out, records.iterator(), type);
+                    }
+                });
+    }
+
+    /* JSON 배열로 쓰기, 리턴값 = 쓴 레코드 수 */
+    public <T> long writeArray(OutputStream out, Iterator<? extends T> records, Class<T> type) throws IOException {
+        ObjectWriter writer = writer(type);
+        try (JsonGenerator generator = generator(writer, out)) {
+            generator.writeStartArray();
+            long count = writeEach(generator, writer, records);
+            generator.writeEndArray();
+            return count;
+        }
+    }
+
+    /* NDJSON 으로 쓰기 = 루트 값 사이 구분자를 줄바꿈으로, 마지막 줄도 줄바꿈으로 끝냄 */
+    public <T> long writeLines(OutputStream out, Iterator<? extends T> records, Class<T> type) throws IOException {
+        ObjectWriter writer = writer(type).withRootValueSeparator("\n");
+        try (JsonGenerator generator = generator(writer, out)) {
+            long count = writeEach(generator, writer, records);
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+            return count;
+        }
+    }
+
+    private long writeEach(JsonGenerator generator, ObjectWriter writer, Iterator<?> records) throws IOException {
+        long count = 0;
+        while (records.hasNext()) {
+            writer.writeValue(generator, records.next());
+            if (++count % flushEvery == 0) {
+                generator.flush();
+            }
+        }
+        return count;
+    }
+
+    private ObjectWriter writer(Class<?> type) {
+        return jsonCodecRegistry.writer(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // 제너레이터를 닫아도 응답 스트림은 닫지 않음 (스프링이 마무리)
+    private static JsonGenerator generator(ObjectWriter writer, OutputStream out) throws IOException {
+        return writer.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
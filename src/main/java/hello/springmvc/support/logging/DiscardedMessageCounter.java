@@ -0,0 +1,84 @@
+package hello.springmvc.support.logging;
+/*
+    #. 버려진 로그 메시지 카운터 (TurboFilter)
+    : log.debug("String concat log=" + name) 처럼 + 로 붙이면 => DEBUG 가 꺼져 있어도 문자열은 이미 만들어진 뒤에 호출됨
+      TurboFilter 는 레벨 검사 전에 모든 로그 호출을 보므로, 레벨이 꺼진 호출 중에서
+      파라미터({})가 없고 리터럴이 아닌(=실행 중에 만들어진) 메시지를 "만들었지만 버린 메시지" 로 셈
+
+    [리터럴 판별] 소스의 문자열 리터럴은 호출할 때마다 같은 인스턴스, + 로 만든 문자열은 매번 새 인스턴스
+      => 내용 해시로 슬롯을 정해서 지난번에 본 인스턴스를 기억해두고, 같은 인스턴스가 다시 오면 리터럴로 봄
+      (근사치) 리터럴도 처음 한번은 셀 수 있음, 해시 충돌로 슬롯이 밀리면 다시 셀 수 있음
+      레벨이 꺼진 + 파라미터 없는 호출에서만 검사 (켜진 레벨에는 비용 X)
+
+    [카운터] /logging-stats 에서 확인
+     disabledCalls      = 레벨이 꺼져서 버려진 호출 수
+     eagerDiscarded     = 그 중 미리 만들어진 문자열 수 (낭비)
+     eagerDiscardedChars = 그 문자열들의 글자 수 합 (낭비한 할당량의 근사치)
+     로거별 eagerDiscarded = 어느 클래스를 고쳐야 하는지
+*/
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DiscardedMessageCounter extends TurboFilter {
+
+    private static final int SEEN_SLOTS = 1024;
+
+    private final AtomicReferenceArray<String> seen = new AtomicReferenceArray<>(SEEN_SLOTS);
+    private final LongAdder disabledCalls = new LongAdder();
+    private final LongAdder eagerDiscarded = new LongAdder();
+    private final LongAdder eagerDiscardedChars = new LongAdder();
+    private final Map<String, LongAdder> eagerByLogger = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() 같은 레벨 확인 호출은 format 이 null
+        if (format == null || level == null) {
+            return FilterReply.NEUTRAL;
+        }
+        // logger.isEnabledFor() 는 다시 TurboFilter 를 부르므로 레벨을 직접 비교
+        if (level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        disabledCalls.increment();
+        if ((params == null || params.length == 0) && !isLiteral(format)) {
+            eagerDiscarded.increment();
+            eagerDiscardedChars.add(format.length());
+            eagerByLogger.computeIfAbsent(logger.getName(), name -> new LongAdder()).increment();
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private boolean isLiteral(String format) {
+        int slot = format.hashCode() & (SEEN_SLOTS - 1);
+        if (seen.get(slot) == format) {
+            return true;
+        }
+        seen.lazySet(slot, format);
+        return false;
+    }
+
+    public long getDisabledCalls() {
+        return disabledCalls.sum();
+    }
+
+    public long getEagerDiscarded() {
+        return eagerDiscarded.sum();
+    }
+
+    public long getEagerDiscardedChars() {
+        return eagerDiscardedChars.sum();
+    }
+
+    public Map<String, LongAdder> getEagerByLogger() {
+        return eagerByLogger;
+    }
+}
@@ -0,0 +1,59 @@
+package hello.springmvc.support.logging;
+/*
+    #. 고정 크기 lock-free 링 버퍼 (여러 생산자 -> 소비자 하나)
+    : 요청 쓰레드들(생산자)은 tail 을 CAS 로 하나씩 증가시켜 칸을 차지하고 이벤트를 씀
+      쓰기 쓰레드(소비자) 하나만 head 를 옮기면서 꺼냄 => 락 없음, 이벤트 넣을때 노드 객체 생성 없음
+      칸을 차지했지만 아직 안 쓴 경우(null) => 소비자는 다음 번에 다시 봄
+*/
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class EventRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    EventRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /* 가득 차 있으면 false */
+    boolean offer(E event) {
+        while (true) {
+            long t = tail.get();
+            if (t - head.get() >= capacity()) {
+                return false;
+            }
+            if (tail.compareAndSet(t, t + 1)) {
+                slots.lazySet((int) (t & mask), event);
+                return true;
+            }
+        }
+    }
+
+    /* 소비자 쓰레드 전용, 비어 있으면 null */
+    E poll() {
+        long h = head.get();
+        int index = (int) (h & mask);
+        E event = slots.get(index);
+        if (event == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head.lazySet(h + 1);
+        return event;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+}
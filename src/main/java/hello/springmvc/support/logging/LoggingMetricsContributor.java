@@ -0,0 +1,44 @@
+package hello.springmvc.support.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import hello.springmvc.support.metrics.MetricsContributor;
+import hello.springmvc.support.metrics.MetricsWriter;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/* /logging-stats 와 같은 카운터를 /metrics 에도 (RingBufferAsyncAppender, DiscardedMessageCounter) */
+@Component
+public class LoggingMetricsContributor implements MetricsContributor {
+
+    @Override
+    public void contribute(MetricsWriter writer) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Iterator<Appender<ILoggingEvent>> it = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (it.hasNext()) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (appender instanceof RingBufferAsyncAppender) {
+                RingBufferAsyncAppender async = (RingBufferAsyncAppender) appender;
+                String labels = MetricsWriter.label("appender", async.getName());
+                writer.family("hello_log_queue_depth", "gauge", "Events waiting in the async appender")
+                        .sample("hello_log_queue_depth", labels, async.getQueueDepth())
+                        .family("hello_log_events_total", "counter", "Async appender events by outcome")
+                        .sample("hello_log_events_total", labels + ',' + MetricsWriter.label("outcome", "enqueued"), async.getEnqueuedCount())
+                        .sample("hello_log_events_total", labels + ',' + MetricsWriter.label("outcome", "dropped"), async.getDroppedCount())
+                        .sample("hello_log_events_total", labels + ',' + MetricsWriter.label("outcome", "written"), async.getWrittenCount());
+            }
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof DiscardedMessageCounter) {
+                DiscardedMessageCounter counter = (DiscardedMessageCounter) filter;
+                writer.counter("hello_log_disabled_calls_total", "Log calls below the logger level", counter.getDisabledCalls())
+                        .counter("hello_log_eager_discarded_total", "Eagerly built messages that were discarded", counter.getEagerDiscarded());
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package hello.springmvc.support.logging;
+/*
+    #. 비동기 로그 카운터 조회
+    : GET /logging-stats => 루트 로거에 붙은 RingBufferAsyncAppender 의 카운터,
+                           DiscardedMessageCounter(버려진 로그 메시지) 카운터를 텍스트로 출력
+*/
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Iterator;
+
+@RestController
+public class LoggingStatsController {
+
+    @GetMapping(value = "/logging-stats", produces = "text/plain")
+    public String loggingStats() {
+        StringBuilder sb = new StringBuilder();
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Iterator<Appender<ILoggingEvent>> it = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (it.hasNext()) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (appender instanceof RingBufferAsyncAppender) {
+                RingBufferAsyncAppender async = (RingBufferAsyncAppender) appender;
+                sb.append("appender=").append(async.getName()).append('\n')
+                        .append("policy=").append(async.getOverflowPolicy()).append('\n')
+                        .append("capacity=").append(async.getCapacity()).append('\n')
+                        .append("queueDepth=").append(async.getQueueDepth()).append('\n')
+                        .append("maxQueueDepth=").append(async.getMaxQueueDepth()).append('\n')
+                        .append("enqueued=").append(async.getEnqueuedCount()).append('\n')
+                        .append("dropped=").append(async.getDroppedCount()).append('\n')
+                        .append("written=").append(async.getWrittenCount()).append('\n')
+                        .append("batches=").append(async.getBatchCount()).append('\n');
+            }
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof DiscardedMessageCounter) {
+                DiscardedMessageCounter counter = (DiscardedMessageCounter) filter;
+                sb.append("disabledCalls=").append(counter.getDisabledCalls()).append('\n')
+                        .append("eagerDiscarded=").append(counter.getEagerDiscarded()).append('\n')
+                        .append("eagerDiscardedChars=").append(counter.getEagerDiscardedChars()).append('\n');
+                counter.getEagerByLogger().forEach((logger, count) ->
+                        sb.append("eagerDiscarded{logger=").append(logger).append("}=").append(count.sum()).append('\n'));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,11 @@
+package hello.springmvc.support.logging;
+
+/*
+    #. 큐가 가득 찼을 때 정책
+     DROP  = TRACE/DEBUG/INFO 는 버리고 dropped 카운터 증가, WARN/ERROR 는 자리가 날 때까지 기다림
+     BLOCK = 모든 레벨이 자리가 날 때까지 기다림(back-pressure) = 로그 유실 없음, 대신 요청 쓰레드가 느려질 수 있음
+*/
+public enum OverflowPolicy {
+    DROP,
+    BLOCK
+}
@@ -0,0 +1,276 @@
+package hello.springmvc.support.logging;
+/*
+    #. 비동기 배치 로그 appender
+    : 요청 쓰레드에서 log.info(...) 를 호출하면 Logback 이 동기로 콘솔/파일에 씀 => 디스크 flush 가 요청 지연에 그대로 들어감
+      => 요청 쓰레드는 링 버퍼에 이벤트를 넣기만 하고 바로 리턴
+         전용 쓰레드 하나가 batchSize 만큼 모아서 붙어있는 appender(CONSOLE, FILE) 에 쓰고, 배치마다 한번만 flush
+         버퍼가 비면 쓰기 쓰레드는 시간 제한 없이 잠듦 => 잠든 걸 본 생산자가 깨움 (로그가 없는 동안 깨어나는 일 없음)
+
+    [설정] logback-spring.xml
+     capacity        = 링 버퍼 크기 (2의 거듭제곱으로 올림)
+     batchSize       = 한번에 꺼내서 쓰는 최대 개수
+     overflowPolicy  = DROP / BLOCK (OverflowPolicy 참조)
+     includeCallerData = %line, %method 같은 호출 위치가 필요할 때만 true (비쌈)
+
+    [카운터] /logging-stats 에서 확인 = 큐 깊이, 최대 깊이, 버린 개수, 쓴 개수, 배치 수
+*/
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long STOP_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+    private int capacity = 8192;
+    private int batchSize = 256;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private boolean includeCallerData = false;
+
+    private EventRingBuffer<ILoggingEvent> ring;
+    private Thread worker;
+    private volatile boolean running;
+    private volatile boolean sleeping; // 쓰기 쓰레드가 빈 버퍼를 보고 잠들었거나 잠들려는 중
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong maxDepth = new AtomicLong();
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        ring = new EventRingBuffer<>(capacity);
+        running = true;
+        worker = new Thread(this::drainLoop, "log-writer-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+        addInfo("ring buffer capacity=" + ring.capacity() + ", batchSize=" + batchSize + ", policy=" + overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(STOP_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("log writer did not finish in time, remaining=" + ring.size());
+        }
+    }
+
+    /* 요청 쓰레드 = 링 버퍼에 넣기만 함 */
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 다른 쓰레드에서 쓰므로 MDC, 포맷된 메시지 등을 지금 확정
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (!ring.offer(event)) {
+            if (overflowPolicy == OverflowPolicy.DROP && !event.getLevel().isGreaterOrEqual(Level.WARN)) {
+                dropped.increment();
+                return;
+            }
+            while (!ring.offer(event)) {
+                if (!isStarted()) {
+                    dropped.increment();
+                    return;
+                }
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+        }
+        if (sleeping) {
+            LockSupport.unpark(worker);
+        }
+        enqueued.increment();
+        long depth = ring.size();
+        long max = maxDepth.get();
+        if (depth > max) {
+            maxDepth.compareAndSet(max, depth); // 대략값이면 충분 = 실패해도 다시 시도하지 않음
+        }
+    }
+
+    /* 쓰기 쓰레드 = 모아서 쓰고 배치마다 flush */
+    private void drainLoop() {
+        long stopDeadline = 0;
+        while (true) {
+            int count = 0;
+            ILoggingEvent event;
+            while (count < batchSize && (event = ring.poll()) != null) {
+                appenders.appendLoopOnAppenders(event);
+                count++;
+            }
+            if (count > 0) {
+                flushAppenders();
+                written.add(count);
+                batches.increment();
+                continue;
+            }
+            if (!running) {
+                // 종료 중에는 아직 쓰여지는 중인 칸이 있을 수 있으므로 잠깐 더 확인
+                if (stopDeadline == 0) {
+                    stopDeadline = System.nanoTime() + STOP_TIMEOUT_NANOS;
+                }
+                if (ring.size() == 0 || System.nanoTime() > stopDeadline) {
+                    return;
+                }
+            }
+            if (ring.size() > 0) {
+                Thread.onSpinWait(); // 생산자가 칸은 차지했지만 아직 쓰는 중
+                continue;
+            }
+            awaitEvents();
+        }
+    }
+
+    /*
+        sleeping 을 먼저 켜고 나서 버퍼를 다시 봄 (생산자는 넣은 다음에 sleeping 을 봄)
+        => 둘 중 하나는 반드시 상대를 봄 = 넣은 이벤트를 두고 잠드는 일이 없음
+           stop() 의 unpark 가 park 보다 먼저 와도 허가(permit) 가 남아 있어서 바로 깨어남
+    */
+    private void awaitEvents() {
+        sleeping = true;
+        try {
+            if (running && ring.size() == 0) {
+                LockSupport.park(this);
+            }
+        } finally {
+            sleeping = false;
+        }
+    }
+
+    // immediateFlush=false 인 appender 는 배치 끝에서 한번만 flush
+    private void flushAppenders() {
+        Iterator<Appender<ILoggingEvent>> it = appenders.iteratorForAppenders();
+        while (it.hasNext()) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (appender instanceof OutputStreamAppender) {
+                OutputStreamAppender<ILoggingEvent> out = (OutputStreamAppender<ILoggingEvent>) appender;
+                if (!out.isImmediateFlush() && out.getOutputStream() != null) {
+                    try {
+                        out.getOutputStream().flush();
+                    } catch (IOException e) {
+                        addError("flush failed for " + appender.getName(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    // ===== 카운터 =====
+
+    public int getQueueDepth() {
+        return ring == null ? 0 : ring.size();
+    }
+
+    public long getMaxQueueDepth() {
+        return maxDepth.get();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    // ===== 설정 (logback-spring.xml) =====
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    // ===== AppenderAttachable = <appender-ref> 로 붙인 appender 들 =====
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
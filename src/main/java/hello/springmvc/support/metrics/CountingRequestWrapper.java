@@ -0,0 +1,67 @@
+package hello.springmvc.support.metrics;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.IOException;
+
+/*
+    요청 바디를 읽은 바이트 수를 세는 래퍼 = Content-Length 가 없는(chunked) 요청에만 씌움
+    (폼 파라미터처럼 톰캣이 안에서 직접 읽는 경우는 못 셈)
+*/
+class CountingRequestWrapper extends HttpServletRequestWrapper {
+
+    private long read;
+    private ServletInputStream inputStream;
+
+    CountingRequestWrapper(HttpServletRequest request) {
+        super(request);
+    }
+
+    long getBytesRead() {
+        return read;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            ServletInputStream delegate = super.getInputStream();
+            inputStream = new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int b = delegate.read();
+                    if (b >= 0) {
+                        read++;
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = delegate.read(b, off, len);
+                    if (n > 0) {
+                        read += n;
+                    }
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return delegate.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return delegate.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    delegate.setReadListener(readListener);
+                }
+            };
+        }
+        return inputStream;
+    }
+}
@@ -0,0 +1,118 @@
+package hello.springmvc.support.metrics;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/*
+    응답 바디에 쓴 양을 세는 래퍼 (압축 전 크기)
+    Writer 는 문자 수로 셈 => 한글이 많으면 실제 바이트보다 적게 나옴
+    sendfile 처럼 서블릿 밖에서 나가는 바디는 못 셈 => 필터가 Content-Length 와 큰 쪽을 씀
+*/
+class CountingResponseWrapper extends HttpServletResponseWrapper {
+
+    private long written;
+    private long contentLength = -1;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CountingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    long getBytesWritten() {
+        return written;
+    }
+
+    long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        super.setContentLength(len);
+        contentLength = len;
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        super.setContentLengthLong(len);
+        contentLength = len;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            ServletOutputStream delegate = super.getOutputStream();
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    delegate.write(b);
+                    written++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    delegate.write(b, off, len);
+                    written += len;
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    delegate.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    delegate.close();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return delegate.isReady();
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    delegate.setWriteListener(writeListener);
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            PrintWriter delegate = super.getWriter();
+            writer = new PrintWriter(new Writer() {
+                @Override
+                public void write(char[] cbuf, int off, int len) {
+                    delegate.write(cbuf, off, len);
+                    written += len;
+                }
+
+                @Override
+                public void write(String str, int off, int len) {
+                    delegate.write(str, off, len);
+                    written += len;
+                }
+
+                @Override
+                public void flush() {
+                    delegate.flush();
+                }
+
+                @Override
+                public void close() {
+                    delegate.close();
+                }
+            });
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,10 @@
+package hello.springmvc.support.metrics;
+
+/*
+    #. /metrics 에 자기 카운터를 더하는 빈
+    : 구현해서 빈으로 등록하면 MetricsController 가 모아서 출력 (렌더링 캐시, 라우트 트라이, 정적 파일, 로그 ...)
+*/
+public interface MetricsContributor {
+
+    void contribute(MetricsWriter writer);
+}
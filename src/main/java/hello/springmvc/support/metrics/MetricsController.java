@@ -0,0 +1,23 @@
+package hello.springmvc.support.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/* GET /metrics => 라우트별 요청 지표 + MetricsContributor 빈들의 카운터를 Prometheus 텍스트로 출력 */
+@RestController
+public class MetricsController {
+
+    private final ObjectProvider<MetricsContributor> contributors;
+
+    public MetricsController(ObjectProvider<MetricsContributor> contributors) {
+        this.contributors = contributors;
+    }
+
+    @GetMapping(value = "/metrics", produces = MetricsWriter.CONTENT_TYPE)
+    public String metrics() {
+        MetricsWriter writer = new MetricsWriter();
+        contributors.orderedStream().forEach(contributor -> contributor.contribute(writer));
+        return writer.toString();
+    }
+}
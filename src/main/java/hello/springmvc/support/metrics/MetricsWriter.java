@@ -0,0 +1,68 @@
+package hello.springmvc.support.metrics;
+/*
+    #. Prometheus 텍스트 형식(0.0.4) 작성기
+    : # HELP / # TYPE 한번 + 샘플 줄들
+      hello_view_cache_hits_total 12
+      http_server_requests_seconds_bucket{method="GET",route="/hello-basic",le="0.005"} 3
+*/
+
+public class MetricsWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final StringBuilder sb = new StringBuilder(4096);
+
+    public MetricsWriter family(String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    public MetricsWriter sample(String name, String labels, long value) {
+        appendName(name, labels).append(value).append('\n');
+        return this;
+    }
+
+    public MetricsWriter sample(String name, String labels, double value) {
+        appendName(name, labels).append(value).append('\n');
+        return this;
+    }
+
+    /* 라벨 없는 값 하나짜리 */
+    public MetricsWriter counter(String name, String help, long value) {
+        return family(name, "counter", help).sample(name, null, value);
+    }
+
+    public MetricsWriter gauge(String name, String help, double value) {
+        return family(name, "gauge", help).sample(name, null, value);
+    }
+
+    /* 라벨 값 이스케이프 = \ " 줄바꿈 */
+    public static String label(String name, String value) {
+        StringBuilder label = new StringBuilder(name.length() + value.length() + 3).append(name).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                label.append('\\').append(c);
+            } else if (c == '\n') {
+                label.append("\\n");
+            } else {
+                label.append(c);
+            }
+        }
+        return label.append('"').toString();
+    }
+
+    private StringBuilder appendName(String name, String labels) {
+        sb.append(name);
+        if (labels != null && !labels.isEmpty()) {
+            sb.append('{').append(labels).append('}');
+        }
+        return sb.append(' ');
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+}
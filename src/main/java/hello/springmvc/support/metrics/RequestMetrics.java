@@ -0,0 +1,93 @@
+package hello.springmvc.support.metrics;
+/*
+    #. 라우트별 요청 지표 모음 + Prometheus 출력
+    : 라우트 = 매핑 패턴(/mapping/users/{userId}/orders/{orderId}) 이라서 경로 변수 값마다 늘어나지 않음
+      매핑을 못 찾은 요청(404, 정적 파일 ...) 은 route="other" 하나로 모음
+*/
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public class RequestMetrics implements MetricsContributor {
+
+    static final String OTHER = "other";
+
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"};
+
+    // 패턴 => 메서드별 칸 (요청마다 "GET /x" 같은 키 문자열을 만들지 않음)
+    private final Map<String, RouteMetrics[]> routes = new ConcurrentHashMap<>();
+
+    void record(String method, String route, long elapsedNanos, long requestBytes, long responseBytes,
+                long allocatedBytes, boolean error) {
+        int index = methodIndex(method);
+        if (index < 0) {
+            index = 0;
+            route = OTHER;
+        }
+        RouteMetrics[] byMethod = routes.computeIfAbsent(route, r -> new RouteMetrics[METHODS.length]);
+        RouteMetrics metrics = byMethod[index];
+        if (metrics == null) {
+            synchronized (byMethod) {
+                metrics = byMethod[index];
+                if (metrics == null) {
+                    metrics = new RouteMetrics(METHODS[index], route);
+                    byMethod[index] = metrics;
+                }
+            }
+        }
+        metrics.record(elapsedNanos, requestBytes, responseBytes, allocatedBytes, error);
+    }
+
+    private static int methodIndex(String method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void contribute(MetricsWriter writer) {
+        writer.family("http_server_requests_seconds", "histogram", "Handler latency per route");
+        forEach(m -> {
+            String labels = labels(m);
+            long cumulative = 0;
+            for (int i = 0; i < RouteMetrics.BUCKETS.length; i++) {
+                cumulative += m.buckets[i].sum();
+                writer.sample("http_server_requests_seconds_bucket",
+                        labels + ',' + RouteMetrics.BUCKET_LABELS[i], cumulative);
+            }
+            long count = m.count.sum();
+            writer.sample("http_server_requests_seconds_bucket", labels + ",le=\"+Inf\"", count);
+            writer.sample("http_server_requests_seconds_sum", labels, m.nanos.sum() / 1e9);
+            writer.sample("http_server_requests_seconds_count", labels, count);
+        });
+        writer.family("http_server_errors_total", "counter", "Requests that ended with 5xx or an exception");
+        forEach(m -> writer.sample("http_server_errors_total", labels(m), m.errors.sum()));
+        writer.family("http_server_request_bytes_total", "counter", "Request body bytes");
+        forEach(m -> writer.sample("http_server_request_bytes_total", labels(m), m.requestBytes.sum()));
+        writer.family("http_server_response_bytes_total", "counter", "Response body bytes before compression");
+        forEach(m -> writer.sample("http_server_response_bytes_total", labels(m), m.responseBytes.sum()));
+        writer.family("http_server_allocated_bytes", "summary", "Heap bytes allocated by the request thread");
+        forEach(m -> {
+            writer.sample("http_server_allocated_bytes_sum", labels(m), m.allocatedBytes.sum());
+            writer.sample("http_server_allocated_bytes_count", labels(m), m.allocationSamples.sum());
+        });
+    }
+
+    private void forEach(Consumer<RouteMetrics> action) {
+        routes.forEach((route, byMethod) -> {
+            for (RouteMetrics metrics : byMethod) {
+                if (metrics != null) {
+                    action.accept(metrics);
+                }
+            }
+        });
+    }
+
+    private static String labels(RouteMetrics m) {
+        return MetricsWriter.label("method", m.method) + ',' + MetricsWriter.label("route", m.route);
+    }
+}
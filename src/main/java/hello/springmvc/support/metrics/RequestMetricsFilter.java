@@ -0,0 +1,122 @@
+package hello.springmvc.support.metrics;
+/*
+    #. 모든 요청의 지연시간 / 바이트 / 할당량 측정 필터
+    : 핸들러마다 log.info 로 시간을 찍지 않아도 /metrics 에서 느린 라우트, 할당이 많은 라우트를 찾을 수 있음
+       a. 지연시간 = 필터 체인 전체 (인터셉터, 바인딩, 뷰 렌더링/메시지 컨버터 포함)
+       b. 할당 바이트 = ThreadMXBean.getThreadAllocatedBytes(요청 스레드) 의 전후 차이
+          비동기 요청(StreamingResponseBody 등) 은 다른 스레드에서 끝나므로 할당은 빼고 지연시간/바이트만
+       c. 라우트 = 핸들러 매핑이 남긴 BEST_MATCHING_PATTERN
+       d. 요청 바이트 = Content-Length, 길이를 모르는(chunked) 요청만 입력 스트림을 감싸서 셈
+          => 보통 요청은 톰캣 CoyoteInputStream 을 그대로 넘김 (BodyLease 가 ByteBuffer 로 바로 읽는 경로가 살아 있음)
+    가장 바깥 필터로 등록 => 다른 필터(압축 flush 지연 등) 시간도 포함
+
+    [설정] hello.metrics.enabled=true
+*/
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final RequestMetrics metrics;
+    private final com.sun.management.ThreadMXBean threads;
+
+    public RequestMetricsFilter(RequestMetrics metrics) {
+        this.metrics = metrics;
+        this.threads = allocationCounter();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = allocatedBytes(threadId);
+        long start = System.nanoTime();
+        HttpServletRequest countingRequest = request.getContentLengthLong() < 0
+                ? new CountingRequestWrapper(request) : request;
+        CountingResponseWrapper countingResponse = new CountingResponseWrapper(response);
+        boolean error = true;
+        try {
+            chain.doFilter(countingRequest, countingResponse);
+            error = false;
+        } finally {
+            if (!error && isAsyncStarted(request)) {
+                request.getAsyncContext().addListener(new CompletionListener(countingRequest, countingResponse, start));
+            } else {
+                long allocated = allocatedBefore < 0 ? -1 : allocatedBytes(threadId) - allocatedBefore;
+                record(countingRequest, countingResponse, start, allocated, error);
+            }
+        }
+    }
+
+    private long allocatedBytes(long threadId) {
+        // 가상 쓰레드 등 지원하지 않으면 -1
+        return threads == null ? -1 : threads.getThreadAllocatedBytes(threadId);
+    }
+
+    private void record(HttpServletRequest request, CountingResponseWrapper response, long start,
+                        long allocated, boolean error) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        long requestBytes = request instanceof CountingRequestWrapper
+                ? ((CountingRequestWrapper) request).getBytesRead() : request.getContentLengthLong();
+        long responseBytes = "HEAD".equals(request.getMethod())
+                ? 0 : Math.max(response.getBytesWritten(), response.getContentLength());
+        metrics.record(request.getMethod(), pattern == null ? RequestMetrics.OTHER : pattern.toString(),
+                System.nanoTime() - start, requestBytes, responseBytes, allocated,
+                error || response.getStatus() >= 500);
+    }
+
+    private class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final CountingResponseWrapper response;
+        private final long start;
+        private boolean failed;
+
+        CompletionListener(HttpServletRequest request, CountingResponseWrapper response, long start) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, start, -1, failed);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package hello.springmvc.support.metrics;
+/*
+    #. 라우트(메서드 + 매핑 패턴) 하나의 누적값
+    : 지연시간 = 고정 버킷 히스토그램 (Prometheus histogram, 출력할 때 누적으로 바꿈)
+      요청/응답 바이트, 할당 바이트(같은 스레드에서 끝난 요청만), 5xx/예외 수
+      모두 LongAdder => 요청 스레드끼리 경합 없이 더함
+*/
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+final class RouteMetrics {
+
+    // 초 단위 상한 (le), 마지막 +Inf 는 count 로 출력
+    static final double[] BUCKETS = {0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    static final String[] BUCKET_LABELS = new String[BUCKETS.length];
+    private static final long[] BUCKET_NANOS = new long[BUCKETS.length];
+
+    static {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            BUCKET_LABELS[i] = MetricsWriter.label("le", BigDecimal.valueOf(BUCKETS[i]).stripTrailingZeros().toPlainString());
+            BUCKET_NANOS[i] = (long) (BUCKETS[i] * 1_000_000_000L);
+        }
+    }
+
+    final String method;
+    final String route;
+    final LongAdder[] buckets = new LongAdder[BUCKETS.length];
+    final LongAdder count = new LongAdder();
+    final LongAdder nanos = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder requestBytes = new LongAdder();
+    final LongAdder responseBytes = new LongAdder();
+    final LongAdder allocatedBytes = new LongAdder();
+    final LongAdder allocationSamples = new LongAdder();
+
+    RouteMetrics(String method, String route) {
+        this.method = method;
+        this.route = route;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long elapsedNanos, long requestBytes, long responseBytes, long allocatedBytes, boolean error) {
+        for (int i = 0; i < BUCKET_NANOS.length; i++) {
+            if (elapsedNanos <= BUCKET_NANOS[i]) {
+                buckets[i].increment();
+                break;
+            }
+        }
+        count.increment();
+        nanos.add(elapsedNanos);
+        this.requestBytes.add(requestBytes);
+        this.responseBytes.add(responseBytes);
+        if (allocatedBytes >= 0) {
+            this.allocatedBytes.add(allocatedBytes);
+            allocationSamples.increment();
+        }
+        if (error) {
+            errors.increment();
+        }
+    }
+}
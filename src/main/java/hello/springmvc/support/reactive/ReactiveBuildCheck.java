@@ -0,0 +1,21 @@
+package hello.springmvc.support.reactive;
+/*
+    #. 논블로킹 서버를 켰는데 -Preactive 없이 빌드한 경우
+    : ReactiveServer / WebFlux 는 src/reactive/java 에만 있음 (평소 빌드에는 Reactor Netty 를 안 넣음)
+      => hello.reactive.enabled=true 인데 ReactiveServer 가 없으면 조용히 톰캣만 뜨지 않고 시작할 때 실패
+*/
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "hello.reactive.enabled", havingValue = "true")
+@ConditionalOnMissingClass("hello.springmvc.support.reactive.ReactiveServer")
+public class ReactiveBuildCheck {
+
+    public ReactiveBuildCheck() {
+        throw new IllegalStateException(
+                "hello.reactive.enabled=true needs the reactive source set: build with ./gradlew -Preactive");
+    }
+}
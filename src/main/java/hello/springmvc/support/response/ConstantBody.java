@@ -0,0 +1,66 @@
+package hello.springmvc.support.response;
+/*
+    #. 미리 인코딩해 둔 고정 응답 바디
+    : "ok" 같은 고정 문자열을 String 으로 리턴하면 요청마다
+      StringHttpMessageConverter 가 Accept 헤더로 미디어 타입을 고르고 => charset 을 정하고 => 바이트로 다시 인코딩함
+      여기서는 클래스가 로딩될 때(시작할때) 바이트, Content-Type 을 한번만 만들어 두고
+      ConstantBodyReturnValueHandler 가 그대로 출력 스트림에 한번 복사
+      => Content-Length 를 미리 알기 때문에 chunked 인코딩도 안 씀
+
+    [사용] 핸들러 리턴 타입을 ConstantBody 로
+     return ConstantBody.OK;
+     private static final ConstantBody GET_USERS = ConstantBody.text("get users");
+    [주의] Accept 헤더와 상관없이 항상 같은 Content-Type (메시지 컨버터의 협상을 건너뜀)
+*/
+
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+public final class ConstantBody {
+
+    public static final ConstantBody OK = text("ok");
+
+    private final String text;
+    private final byte[] body;
+    private final String contentType;
+
+    private ConstantBody(String text, MediaType mediaType) {
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        this.text = text;
+        this.body = text.getBytes(charset);
+        this.contentType = new MediaType(mediaType, charset).toString();
+    }
+
+    /* text/plain;charset=UTF-8 */
+    public static ConstantBody text(String text) {
+        return new ConstantBody(text, MediaType.TEXT_PLAIN);
+    }
+
+    /* charset 이 없는 미디어 타입이면 UTF-8 을 붙임 */
+    public static ConstantBody of(String text, MediaType mediaType) {
+        return new ConstantBody(text, mediaType);
+    }
+
+    public void writeTo(HttpServletResponse response) throws IOException {
+        response.setContentType(contentType);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,35 @@
+package hello.springmvc.support.response;
+/*
+    #. ConstantBodyReturnValueHandler 등록
+    : @RestController / @ResponseBody 메서드는 리턴 타입과 상관없이 RequestResponseBodyMethodProcessor 가 먼저 가져가므로
+      WebMvcConfigurer.addReturnValueHandlers(기본 핸들러들 뒤에 붙음) 가 아니라
+      시작 직후에 RequestMappingHandlerAdapter 의 리턴 값 핸들러 목록 맨 앞에 끼워 넣음
+*/
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ConstantBodyConfig implements SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+
+    public ConstantBodyConfig(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RequestMappingHandlerAdapter adapter = applicationContext.getBean(RequestMappingHandlerAdapter.class);
+        List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+        handlers.add(new ConstantBodyReturnValueHandler());
+        handlers.addAll(adapter.getReturnValueHandlers());
+        adapter.setReturnValueHandlers(handlers);
+    }
+}
@@ -0,0 +1,26 @@
+package hello.springmvc.support.response;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletResponse;
+
+/* 리턴 타입 ConstantBody = 메시지 컨버터 없이 미리 만든 바이트를 그대로 씀 (뷰 조회 X) */
+public class ConstantBodyReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return ConstantBody.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        mavContainer.setRequestHandled(true);
+        if (returnValue != null) {
+            ((ConstantBody) returnValue).writeTo(webRequest.getNativeResponse(HttpServletResponse.class));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package hello.springmvc.support.route;
+/*
+    #. @PathVariable long / int = 경로 문자에서 바로 기본형으로
+    : 원래 @PathVariable Long orderId 는
+      경로 변수 Map<String, String> 을 만들고 => "100" String => 컨버전 서비스에서 String -> Long 컨버터를 찾아서 => Long 박싱
+      여기서는 UriVariables(트라이가 남긴 위치) 의 [start, end) 구간을 바로 long 으로 파싱
+      => String, 컨버전 서비스, 중간 Map 이 없음
+    [주의]
+     숫자가 아니거나 범위를 넘으면 바로 400 (넘치는 자리에서 멈춤)
+     트라이를 끈 경우처럼 경로 변수가 일반 Map 이면 그 값(String) 에서 파싱
+     원래 리졸버와 달리 View.PATH_VARIABLES(리다이렉트 URL 템플릿용) 에는 넣지 않음
+     리플렉션으로 핸들러를 호출할 때 Object[] 에 담기므로 그 한번의 박싱은 남음
+*/
+
+import hello.springmvc.support.bind.QueryStrings;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.MissingPathVariableException;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+public class PrimitivePathVariableArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return (type == long.class || type == int.class) && parameter.hasParameterAnnotation(PathVariable.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        String name = variableName(parameter);
+        Map<?, ?> variables = (Map<?, ?>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        boolean isInt = parameter.getParameterType() == int.class;
+
+        if (variables instanceof UriVariables) {
+            UriVariables uriVariables = (UriVariables) variables;
+            int index = uriVariables.indexOf(name);
+            if (index < 0) {
+                throw new MissingPathVariableException(name, parameter);
+            }
+            String path = uriVariables.path();
+            int start = uriVariables.start(index);
+            int end = uriVariables.end(index);
+            return isInt ? QueryStrings.parseInt(path, start, end) : QueryStrings.parseLong(path, start, end);
+        }
+
+        Object value = variables == null ? null : variables.get(name);
+        if (value == null) {
+            throw new MissingPathVariableException(name, parameter);
+        }
+        String text = value.toString();
+        return isInt ? QueryStrings.parseInt(text, 0, text.length()) : QueryStrings.parseLong(text, 0, text.length());
+    }
+
+    // @PathVariable("orderId") / @PathVariable(name = ...) / 없으면 파라미터 이름
+    private static String variableName(MethodParameter parameter) {
+        PathVariable annotation = parameter.getParameterAnnotation(PathVariable.class);
+        String name = annotation == null ? ValueConstants.DEFAULT_NONE : annotation.name();
+        if (name.isEmpty()) {
+            name = parameter.getParameterName();
+            if (name == null) {
+                throw new IllegalArgumentException("Name for argument of type [" + parameter.getParameterType().getName()
+                        + "] not specified, and parameter name information not found in class file either.");
+            }
+        }
+        return name;
+    }
+}
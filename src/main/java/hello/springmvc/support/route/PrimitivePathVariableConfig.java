@@ -0,0 +1,35 @@
+package hello.springmvc.support.route;
+/*
+    #. PrimitivePathVariableArgumentResolver 등록
+    : WebMvcConfigurer.addArgumentResolvers 로 넣으면 스프링 기본 리졸버들 뒤에 붙어서
+      @PathVariable 은 기본 PathVariableMethodArgumentResolver 가 먼저 가져감
+      => 시작 직후에 RequestMappingHandlerAdapter 의 리졸버 목록 맨 앞에 끼워 넣음
+*/
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class PrimitivePathVariableConfig implements SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+
+    public PrimitivePathVariableConfig(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RequestMappingHandlerAdapter adapter = applicationContext.getBean(RequestMappingHandlerAdapter.class);
+        List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>();
+        resolvers.add(new PrimitivePathVariableArgumentResolver());
+        resolvers.addAll(adapter.getArgumentResolvers());
+        adapter.setArgumentResolvers(resolvers);
+    }
+}
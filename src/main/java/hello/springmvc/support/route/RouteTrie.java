@@ -0,0 +1,378 @@
+package hello.springmvc.support.route;
+/*
+    #. 경로 세그먼트 트라이
+    : 시작할때 모든 @RequestMapping 을 "/" 로 나눈 세그먼트 단위 트리로 만들어 둠
+      /mapping/users          => root - mapping - users          (GET, POST)
+      /mapping/users/{userId} => root - mapping - users - {*}    (GET, PATCH, DELETE)
+      /mapping/{userId}       => root - mapping - {*}            (GET)
+      => 요청 경로의 세그먼트 수만큼만 내려가면 되므로 매핑이 몇천개여도 찾는 비용은 같음
+         리터럴 세그먼트는 substring 없이 경로의 구간 그대로 해시 테이블에서 찾음
+         경로 변수는 String 이 아니라 [start, end) 위치만 기록 (UriVariables)
+
+    [트라이로 처리하지 않는 것] => null 리턴 = 원래 RequestMappingHandlerMapping 에게 넘김
+     a. 매핑 쪽: params/headers/consumes/produces/커스텀 조건이 있는 매핑, 정규식/와일드카드 패턴
+        - 패턴 모양은 세그먼트로 표현되면 그 자리에, 아니면 리터럴 접두어까지만 "여기는 넘김" 표시
+     b. 요청 쪽: 끝이 / 이거나 빈 세그먼트, %인코딩, ;매트릭스 변수, OPTIONS(프리플라이트/자동 OPTIONS), 모르는 메서드
+     c. 같은 우선순위로 둘 이상이 맞을 때 (모호한 매핑 판단은 원래 로직에 맡김)
+    우선순위는 원래와 같은 PathPattern.SPECIFICITY_COMPARATOR (리터럴 /mapping/users 가 /mapping/{userId} 보다 먼저)
+*/
+
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+final class RouteTrie {
+
+    private static final RequestMethod[] METHODS = RequestMethod.values();
+    private static final int ANY = METHODS.length; // 메서드 조건이 없는 매핑
+    private static final Pattern VARIABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final Node root = new Node();
+    private int routes;
+    private int deferred;
+    private int maxVariables;
+
+    static RouteTrie build(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        RouteTrie trie = new RouteTrie();
+        handlerMethods.forEach(trie::add);
+        return trie;
+    }
+
+    int routes() {
+        return routes;
+    }
+
+    int deferred() {
+        return deferred;
+    }
+
+    private void add(RequestMappingInfo info, HandlerMethod handlerMethod) {
+        if (info.getPathPatternsCondition() == null) {
+            root.deferSubtree = true; // AntPathMatcher 방식 = 전부 원래 로직으로
+            return;
+        }
+        boolean eligible = info.getParamsCondition().isEmpty()
+                && info.getHeadersCondition().isEmpty()
+                && info.getConsumesCondition().isEmpty()
+                && info.getProducesCondition().isEmpty()
+                && info.getCustomCondition() == null;
+        for (PathPattern pattern : info.getPathPatternsCondition().getPatterns()) {
+            if (pattern.getPatternString().isEmpty()) {
+                root.leaf().deferred = true; // 경로 없는 매핑
+                deferred++;
+                continue;
+            }
+            List<String> segments = segments(pattern.getPatternString());
+            if (segments == null) {
+                literalPrefix(pattern.getPatternString()).deferSubtree = true;
+                deferred++;
+                continue;
+            }
+            Node node = root;
+            List<String> names = new ArrayList<>();
+            for (String segment : segments) {
+                if (segment.charAt(0) == '{') {
+                    names.add(segment.substring(1, segment.length() - 1));
+                    node = node.capture == null ? (node.capture = new Node()) : node.capture;
+                } else {
+                    node = node.literal(segment);
+                }
+            }
+            if (!eligible) {
+                node.leaf().deferred = true;
+                deferred++;
+                continue;
+            }
+            Route route = new Route(handlerMethod, pattern, names.toArray(new String[0]));
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            if (methods.isEmpty()) {
+                node.leaf().put(ANY, route);
+            } else {
+                for (RequestMethod method : methods) {
+                    node.leaf().put(method.ordinal(), route);
+                }
+            }
+            routes++;
+            maxVariables = Math.max(maxVariables, names.size());
+        }
+    }
+
+    /* 리터럴 / {이름} 세그먼트로만 된 패턴이면 세그먼트 목록, 아니면 null */
+    private static List<String> segments(String pattern) {
+        if (pattern.equals("/")) {
+            return List.of();
+        }
+        if (!pattern.startsWith("/") || pattern.endsWith("/")) {
+            return null;
+        }
+        List<String> segments = Arrays.asList(pattern.substring(1).split("/", -1));
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                return null;
+            }
+            if (segment.charAt(0) == '{') {
+                if (!segment.endsWith("}") || !VARIABLE_NAME.matcher(segment.substring(1, segment.length() - 1)).matches()) {
+                    return null;
+                }
+            } else if (!isLiteral(segment)) {
+                return null;
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isLiteral(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '{' || c == '}' || c == '*' || c == '?' || c == ';' || c == '%' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 표현할 수 없는 패턴 = 앞쪽 리터럴 세그먼트까지만 따라간 노드 (그 아래는 전부 원래 로직으로)
+    private Node literalPrefix(String pattern) {
+        Node node = root;
+        if (!pattern.startsWith("/")) {
+            return node;
+        }
+        for (String segment : pattern.substring(1).split("/")) {
+            if (segment.isEmpty() || !isLiteral(segment)) {
+                break;
+            }
+            node = node.literal(segment);
+        }
+        return node;
+    }
+
+    /* 트라이로 확정할 수 있으면 결과, 아니면 null */
+    Match lookup(String path, String method) {
+        int methodIndex = methodIndex(method);
+        if (methodIndex < 0 || path.isEmpty() || path.charAt(0) != '/'
+                || path.indexOf('%') >= 0 || path.indexOf(';') >= 0) {
+            return null;
+        }
+        Search search = new Search(path, methodIndex, maxVariables);
+        if (path.length() == 1) {
+            if (!root.deferSubtree) {
+                search.leaf(root, 0);
+            }
+        } else {
+            search.walk(root, 0, 0);
+        }
+        if (search.defer || search.tie || search.best == null) {
+            return null;
+        }
+        return new Match(search.best, search.bestBounds == null ? null
+                : new UriVariables(path, search.best.variableNames, search.bestBounds));
+    }
+
+    private static int methodIndex(String method) {
+        switch (method) {
+            case "GET": return RequestMethod.GET.ordinal();
+            case "POST": return RequestMethod.POST.ordinal();
+            case "PUT": return RequestMethod.PUT.ordinal();
+            case "PATCH": return RequestMethod.PATCH.ordinal();
+            case "DELETE": return RequestMethod.DELETE.ordinal();
+            case "HEAD": return RequestMethod.HEAD.ordinal();
+            default: return -1; // OPTIONS, TRACE, 확장 메서드
+        }
+    }
+
+    static final class Route {
+        final HandlerMethod handlerMethod;
+        final PathPattern pattern;
+        final String[] variableNames;
+
+        Route(HandlerMethod handlerMethod, PathPattern pattern, String[] variableNames) {
+            this.handlerMethod = handlerMethod;
+            this.pattern = pattern;
+            this.variableNames = variableNames;
+        }
+    }
+
+    static final class Match {
+        final Route route;
+        final UriVariables uriVariables; // 경로 변수가 없으면 null
+
+        Match(Route route, UriVariables uriVariables) {
+            this.route = route;
+            this.uriVariables = uriVariables;
+        }
+    }
+
+    private static final class Leaf {
+        final Route[] routes = new Route[METHODS.length + 1];
+        boolean deferred;
+
+        void put(int methodIndex, Route route) {
+            if (routes[methodIndex] != null) {
+                deferred = true; // 같은 모양 + 같은 메서드 = 모호함 판단은 원래 로직으로
+            }
+            routes[methodIndex] = route;
+        }
+
+        Route route(int methodIndex) {
+            Route route = routes[methodIndex];
+            if (route == null && methodIndex == RequestMethod.HEAD.ordinal()) {
+                route = routes[RequestMethod.GET.ordinal()]; // GET 매핑은 HEAD 도 받음
+            }
+            return route != null ? route : routes[ANY];
+        }
+    }
+
+    private static final class Node {
+        String[] keys = new String[0];
+        Node[] children = new Node[0];
+        Node capture;
+        Leaf leaf;
+        boolean deferSubtree;
+
+        Leaf leaf() {
+            return leaf == null ? (leaf = new Leaf()) : leaf;
+        }
+
+        // 만들 때 = 리터럴 자식을 찾거나 새로 추가 (오픈 어드레싱 해시 테이블, 크기 2의 제곱)
+        Node literal(String segment) {
+            Node child = find(segment, 0, segment.length());
+            if (child != null) {
+                return child;
+            }
+            int count = 1;
+            for (String key : keys) {
+                count += key == null ? 0 : 1;
+            }
+            if (count * 2 > keys.length) {
+                String[] oldKeys = keys;
+                Node[] oldChildren = children;
+                int size = Math.max(4, Integer.highestOneBit(count * 2) * 2);
+                keys = new String[size];
+                children = new Node[size];
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldKeys[i] != null) {
+                        insert(oldKeys[i], oldChildren[i]);
+                    }
+                }
+            }
+            child = new Node();
+            insert(segment, child);
+            return child;
+        }
+
+        private void insert(String key, Node child) {
+            int mask = keys.length - 1;
+            int i = spread(key.hashCode()) & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            children[i] = child;
+        }
+
+        // 찾을 때 = path 의 [start, end) 구간으로 String.hashCode() 와 같은 해시를 계산해서 찾음 (substring X)
+        Node find(String path, int start, int end) {
+            if (keys.length == 0) {
+                return null;
+            }
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            int length = end - start;
+            int mask = keys.length - 1;
+            for (int i = spread(hash) & mask; keys[i] != null; i = (i + 1) & mask) {
+                String key = keys[i];
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    // 요청 하나를 찾는 동안의 상태 = 리터럴 쪽과 경로 변수 쪽을 모두 내려가서 가장 구체적인 매핑을 고름
+    private static final class Search {
+        final String path;
+        final int methodIndex;
+        final int[] bounds;
+        Route best;
+        int[] bestBounds;
+        boolean tie;
+        boolean defer;
+
+        Search(String path, int methodIndex, int maxVariables) {
+            this.path = path;
+            this.methodIndex = methodIndex;
+            this.bounds = new int[maxVariables * 2];
+        }
+
+        // pos = 다음 "/" 의 위치
+        void walk(Node node, int pos, int variables) {
+            if (node.deferSubtree) {
+                defer = true;
+                return;
+            }
+            if (pos == path.length()) {
+                leaf(node, variables);
+                return;
+            }
+            int start = pos + 1;
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end == start) {
+                defer = true; // 빈 세그먼트, 끝의 "/"
+                return;
+            }
+            Node literal = node.find(path, start, end);
+            if (literal != null) {
+                walk(literal, end, variables);
+                if (defer) {
+                    return;
+                }
+            }
+            if (node.capture != null && variables < bounds.length / 2) {
+                bounds[variables * 2] = start;
+                bounds[variables * 2 + 1] = end;
+                walk(node.capture, end, variables + 1);
+            }
+        }
+
+        void leaf(Node node, int variables) {
+            Leaf leaf = node.leaf;
+            if (leaf == null) {
+                return;
+            }
+            if (leaf.deferred) {
+                defer = true;
+                return;
+            }
+            Route route = leaf.route(methodIndex);
+            if (route == null) {
+                return;
+            }
+            int order = best == null ? -1 : PathPattern.SPECIFICITY_COMPARATOR.compare(route.pattern, best.pattern);
+            if (order < 0) {
+                best = route;
+                bestBounds = variables == 0 ? null : Arrays.copyOf(bounds, variables * 2);
+                tie = false;
+            } else if (order == 0) {
+                tie = true;
+            }
+        }
+    }
+}
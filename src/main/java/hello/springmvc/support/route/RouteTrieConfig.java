@@ -0,0 +1,23 @@
+package hello.springmvc.support.route;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/* 부트가 만드는 RequestMappingHandlerMapping 을 트라이 버전으로 교체 (설정, 인터셉터 등록은 부트가 그대로 해줌) */
+@Configuration
+@ConditionalOnProperty(name = "hello.mvc.route-trie.enabled", havingValue = "true", matchIfMissing = true)
+public class RouteTrieConfig {
+
+    @Bean
+    public WebMvcRegistrations routeTrieRegistrations() {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerMapping getRequestMappingHandlerMapping() {
+                return new TrieRequestMappingHandlerMapping();
+            }
+        };
+    }
+}
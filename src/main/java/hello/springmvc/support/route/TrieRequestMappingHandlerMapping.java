@@ -0,0 +1,102 @@
+package hello.springmvc.support.route;
+/*
+    #. 트라이로 먼저 찾는 RequestMappingHandlerMapping
+    : 원래는 요청마다 경로가 직접 일치하는 매핑이 없으면 => 등록된 매핑 전부의 조건(패턴, 메서드...)을 하나씩 맞춰보고 정렬
+      => 경로 변수가 있는 매핑(/mapping/users/{userId}/orders/{orderId}) 은 매핑 수에 비례해서 느려짐
+      여기서는 시작할때 만든 RouteTrie 에서 먼저 찾고, 트라이가 확정하지 못하는 요청만 원래 로직으로 넘김
+      찾은 뒤에 request 에 남기는 속성(BEST_MATCHING_PATTERN, URI_TEMPLATE_VARIABLES ...) 은 원래와 같음
+
+    [설정] hello.mvc.route-trie.enabled=true (false 면 원래 RequestMappingHandlerMapping 그대로)
+*/
+
+import hello.springmvc.support.metrics.MetricsContributor;
+import hello.springmvc.support.metrics.MetricsWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class TrieRequestMappingHandlerMapping extends RequestMappingHandlerMapping implements MetricsContributor {
+
+    private volatile RouteTrie routeTrie;
+    private final LongAdder trieMatches = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        routeTrie();
+    }
+
+    // 시작한 뒤에 매핑을 추가/삭제하면 다음 요청에서 트라이를 다시 만듦
+    @Override
+    public void registerMapping(RequestMappingInfo mapping, Object handler, Method method) {
+        super.registerMapping(mapping, handler, method);
+        routeTrie = null;
+    }
+
+    @Override
+    public void unregisterMapping(RequestMappingInfo mapping) {
+        super.unregisterMapping(mapping);
+        routeTrie = null;
+    }
+
+    private RouteTrie routeTrie() {
+        RouteTrie trie = routeTrie;
+        if (trie == null) {
+            synchronized (this) {
+                trie = routeTrie;
+                if (trie == null) {
+                    trie = RouteTrie.build(getHandlerMethods());
+                    routeTrie = trie;
+                    log.info("route trie built routes={} deferred={}", trie.routes(), trie.deferred());
+                }
+            }
+        }
+        return trie;
+    }
+
+    @Override
+    protected HandlerMethod lookupHandlerMethod(String lookupPath, HttpServletRequest request) throws Exception {
+        // lookupPath 는 ;매트릭스 변수가 이미 지워진 경로 => 원래 URI 로 확인
+        RouteTrie.Match match = getPatternParser() == null || request.getRequestURI().indexOf(';') >= 0
+                ? null : routeTrie().lookup(lookupPath, request.getMethod());
+        if (match == null) {
+            fallbacks.increment();
+            return super.lookupHandlerMethod(lookupPath, request);
+        }
+        trieMatches.increment();
+        HandlerMethod handlerMethod = match.route.handlerMethod;
+        // AbstractHandlerMethodMapping.lookupHandlerMethod + RequestMappingInfoHandlerMapping.handleMatch 와 같은 속성
+        request.setAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+        request.setAttribute(PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, lookupPath);
+        request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, match.route.pattern.getPatternString());
+        request.setAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                match.uriVariables == null ? Collections.emptyMap() : match.uriVariables);
+        request.setAttribute(MATRIX_VARIABLES_ATTRIBUTE, Collections.emptyMap());
+        return handlerMethod;
+    }
+
+    @Override
+    public void contribute(MetricsWriter writer) {
+        writer.family("hello_route_lookups_total", "counter", "Handler lookups by the route trie or the default matcher")
+                .sample("hello_route_lookups_total", MetricsWriter.label("result", "trie"), getTrieMatches())
+                .sample("hello_route_lookups_total", MetricsWriter.label("result", "fallback"), getFallbacks());
+    }
+
+    /* 트라이에서 바로 찾은 요청 수 */
+    public long getTrieMatches() {
+        return trieMatches.sum();
+    }
+
+    /* 원래 로직으로 넘긴 요청 수 */
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+}
@@ -0,0 +1,98 @@
+package hello.springmvc.support.route;
+/*
+    #. 경로 변수 = 요청 경로 안의 위치(offset) 만 기억하는 Map
+    : /mapping/users/userA/orders/100 => userId = [16, 21), orderId = [29, 32)
+      get() 으로 꺼낼 때 처음으로 String 을 만듦 => 안 쓰는 변수는 String 을 만들지 않음
+      @PathVariable 처리(PathVariableMethodArgumentResolver) 는 이 Map 을 그대로 씀
+      숫자 변수는 start/end 로 경로에서 바로 파싱할 수 있음 (String 없이)
+*/
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public final class UriVariables extends AbstractMap<String, String> {
+
+    private final String path;
+    private final String[] names;
+    private final int[] bounds; // [start0, end0, start1, end1, ...]
+
+    UriVariables(String path, String[] names, int[] bounds) {
+        this.path = path;
+        this.names = names;
+        this.bounds = bounds;
+    }
+
+    /* 변수 이름의 순번, 없으면 -1 */
+    public int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int start(int index) {
+        return bounds[index * 2];
+    }
+
+    public int end(int index) {
+        return bounds[index * 2 + 1];
+    }
+
+    /* offset 의 기준이 되는 경로 (핸들러 매핑의 lookup path) */
+    public String path() {
+        return path;
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = key instanceof String ? indexOf((String) key) : -1;
+        return index < 0 ? null : path.substring(start(index), end(index));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    // 데이터 바인딩(@ModelAttribute) 처럼 전체를 훑을 때만 씀
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < names.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (next >= names.length) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next++;
+                        return new SimpleImmutableEntry<>(names[index], path.substring(start(index), end(index)));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return names.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package hello.springmvc.support.startup;
+/*
+    #. AppCDS 아카이브 학습 실행
+    : 시작이 끝나면(ApplicationReadyEvent) 자기 자신에게 요청 몇 개를 보내고 바로 종료
+      => -XX:ArchiveClassesAtExit 가 시작 + 첫 요청 처리에 쓰인 클래스까지 아카이브에 담음
+      ./gradlew appCdsArchive 가 --hello.startup.exit-after-ready=true 로 실행함
+*/
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+
+@Slf4j
+public class CdsTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final List<String> paths;
+
+    public CdsTrainingRun(List<String> paths) {
+        this.paths = paths;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        if (context instanceof WebServerApplicationContext) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            for (String path : paths) {
+                log.info("training request GET {} => {}", path, get(port, path));
+            }
+        }
+        // 컨텍스트를 닫은 다음 종료 => JVM 종료 시점에 아카이브가 만들어짐
+        System.exit(SpringApplication.exit(context));
+    }
+
+    private static int get(int port, String path) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", port, path).openConnection();
+            int status = connection.getResponseCode();
+            try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (in != null) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return status;
+        } catch (IOException e) {
+            log.warn("training request GET {} failed: {}", path, e.toString());
+            return -1;
+        }
+    }
+}
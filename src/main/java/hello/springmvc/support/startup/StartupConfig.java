@@ -0,0 +1,37 @@
+package hello.springmvc.support.startup;
+/*
+    #. 빠른 시작 모드 (--spring.profiles.active=fast-startup => application-fast-startup.properties)
+    : spring.main.lazy-initialization=true = 빈을 처음 쓸 때 만듦 (타임리프, 메시지 컨버터, 뷰 캐시 ...)
+      요청 매핑(HandlerMapping) 만 시작할 때 만듦 => 매핑 충돌 같은 설정 오류는 첫 요청이 아니라 시작할 때 드러남
+*/
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerHandlerMappings() {
+        return LazyInitializationExcludeFilter.forBeanTypes(HandlerMapping.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = StartupReport.ENABLED_PROPERTY, havingValue = "true")
+    public StartupReport startupReport(@Value("${hello.startup.report-top:15}") int top) {
+        return new StartupReport(top);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "hello.startup.exit-after-ready", havingValue = "true")
+    public CdsTrainingRun cdsTrainingRun(
+            @Value("${hello.startup.training-paths:/hello-basic,/response-body-json-v1,/response-view-v1}") List<String> paths) {
+        return new CdsTrainingRun(paths);
+    }
+}
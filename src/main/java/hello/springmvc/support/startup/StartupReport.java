@@ -0,0 +1,159 @@
+package hello.springmvc.support.startup;
+/*
+    #. 시작 단계 분석 리포트
+    : 스프링이 시작하면서 남기는 단계(StartupStep) 를 BufferingApplicationStartup 에 모아 두었다가
+      ApplicationReadyEvent 때 한번 요약해서 로그로 출력하고 버림
+      a. 단계(phase)  = 빈 생성이 아닌 단계 (환경 준비, 컨텍스트 refresh, 빈 후처리 ...) 소요 시간
+      b. 빈           = 빈 하나의 자기 시간 (자신을 만들면서 같이 만든 의존 빈 시간은 뺌)
+      c. 설정 클래스   = @Bean 메서드로 만든 빈들의 자기 시간을 그 빈을 정의한 설정(자동 구성) 클래스 기준으로 합산
+    켜기: --hello.startup.report=true (main 이 인자를 보고 기록을 시작함, 기록을 켜지 않으면 아무것도 안 함)
+*/
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final String ENABLED_PROPERTY = "hello.startup.report";
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+    private static final String SCANNED_COMPONENTS = "(component scan)";
+
+    // 빈 개수(수백) x 단계 몇 개 => 넉넉하게
+    private static final int CAPACITY = 20_000;
+
+    private final int top;
+
+    public StartupReport(int top) {
+        this.top = top;
+    }
+
+    /*
+        main 에서 SpringApplication 에 넘길 기록기
+        : 프로퍼티 파일을 읽기 전이므로 명령행 인자(--hello.startup.report=true) 와 시스템 프로퍼티만 봄
+          꺼져 있으면 기본값(아무것도 기록하지 않음)
+    */
+    public static ApplicationStartup applicationStartup(String... args) {
+        boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY)
+                || Arrays.asList(args).contains("--" + ENABLED_PROPERTY + "=true");
+        return enabled ? new BufferingApplicationStartup(CAPACITY) : ApplicationStartup.DEFAULT;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        if (!(context.getApplicationStartup() instanceof BufferingApplicationStartup)) {
+            log.info("startup report skipped: start with --{}=true so that main records the startup steps", ENABLED_PROPERTY);
+            return;
+        }
+        StartupTimeline timeline = ((BufferingApplicationStartup) context.getApplicationStartup()).drainBufferedTimeline();
+        log.info(render(timeline, context.getBeanFactory(), event.getTimeTaken()));
+    }
+
+    String render(StartupTimeline timeline, ConfigurableListableBeanFactory beanFactory, Duration timeTaken) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+
+        // 자기 시간 = 자신의 시간 - 바로 아래 자식 단계들의 시간
+        Map<Long, Long> selfNanos = new HashMap<>(events.size() * 2);
+        for (StartupTimeline.TimelineEvent event : events) {
+            selfNanos.merge(event.getStartupStep().getId(), event.getDuration().toNanos(), Long::sum);
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                selfNanos.merge(parentId, -event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        Map<String, Long> phases = new LinkedHashMap<>();
+        Map<String, Long> beans = new HashMap<>();
+        Map<String, Long> configurations = new HashMap<>();
+        int beanCount = 0;
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (!BEAN_STEP.equals(step.getName())) {
+                phases.merge(step.getName(), event.getDuration().toNanos(), Long::sum);
+                continue;
+            }
+            String beanName = tag(step, "beanName");
+            if (beanName == null) {
+                continue;
+            }
+            beanCount++;
+            long self = Math.max(0, selfNanos.getOrDefault(step.getId(), 0L));
+            beans.merge(beanName + " (" + beanType(beanFactory, beanName) + ")", self, Long::sum);
+            configurations.merge(definedBy(beanFactory, beanName), self, Long::sum);
+        }
+
+        StringBuilder report = new StringBuilder(4096);
+        report.append("startup report: ready in ").append(timeTaken == null ? "?" : timeTaken.toMillis() + "ms")
+                .append(", ").append(events.size()).append(" steps, ").append(beanCount).append(" beans instantiated");
+        append(report, "phases (total)", phases);
+        append(report, "beans (self time)", beans);
+        append(report, "configurations (self time of their beans)", configurations);
+        return report.toString();
+    }
+
+    private void append(StringBuilder report, String title, Map<String, Long> nanos) {
+        report.append("\n  top ").append(Math.min(top, nanos.size())).append(' ').append(title).append(':');
+        List<Map.Entry<String, Long>> sorted = nanos.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(top)
+                .collect(Collectors.toList());
+        for (Map.Entry<String, Long> entry : sorted) {
+            report.append(String.format(Locale.ROOT, "%n    %8.1fms  %s", entry.getValue() / 1_000_000.0, entry.getKey()));
+        }
+    }
+
+    /*
+        빈을 정의한 설정 클래스
+        : @Bean 메서드 빈 = 팩토리 빈(설정 클래스) 의 타입, 설정 클래스 자신 = 자기 타입
+          컴포넌트 스캔으로 등록된 일반 빈은 하나로 묶음
+    */
+    private static String definedBy(ConfigurableListableBeanFactory beanFactory, String beanName) {
+        if (!beanFactory.containsBeanDefinition(beanName)) {
+            return SCANNED_COMPONENTS;
+        }
+        BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null) {
+            return beanType(beanFactory, factoryBeanName);
+        }
+        // 설정 클래스는 ConfigurationClassPostProcessor 가 표시해 둠 (full = @Configuration, lite = @Component + @Bean)
+        if (definition.getAttribute("org.springframework.context.annotation.ConfigurationClassPostProcessor.configurationClass") != null) {
+            return beanType(beanFactory, beanName);
+        }
+        return SCANNED_COMPONENTS;
+    }
+
+    private static String beanType(ConfigurableListableBeanFactory beanFactory, String beanName) {
+        Class<?> type = beanFactory.getType(beanName, false);
+        return type == null ? "?" : ClassUtils.getUserClass(type).getName();
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,37 @@
+package hello.springmvc.support.staticfile;
+/*
+    #. 정적 파일 하나 (시작할 때 한번 만들어 둠)
+    : 디스크 경로, 길이, Last-Modified, 강한 ETag(내용 MD5), Content-Type
+      작은 파일 = mapped (힙 밖 메모리 매핑, 요청마다 파일을 열지 않음) / 큰 파일 = null => sendfile
+      gzip / br = 같은 이름의 .gz / .br 파일 (precompressStatic 이 만든 것), 없으면 null
+*/
+
+import org.springframework.http.MediaType;
+
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+
+final class StaticFile {
+
+    final Path path;
+    final MediaType contentType;
+    final long length;
+    final long lastModified;
+    final String etag;
+    final MappedByteBuffer mapped;
+    StaticFile gzip;
+    StaticFile br;
+
+    StaticFile(Path path, MediaType contentType, long length, long lastModified, String etag, MappedByteBuffer mapped) {
+        this.path = path;
+        this.contentType = contentType;
+        this.length = length;
+        this.lastModified = lastModified;
+        this.etag = etag;
+        this.mapped = mapped;
+    }
+
+    boolean hasVariants() {
+        return gzip != null || br != null;
+    }
+}
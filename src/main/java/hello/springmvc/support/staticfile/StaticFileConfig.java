@@ -0,0 +1,31 @@
+package hello.springmvc.support.staticfile;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+
+/* 정적 파일 전용 매핑 등록 (hello.static.enabled=false 면 스프링 기본 리소스 핸들러만 씀) */
+@Configuration
+@ConditionalOnProperty(name = "hello.static.enabled", havingValue = "true", matchIfMissing = true)
+public class StaticFileConfig {
+
+    @Bean
+    public StaticFileRegistry staticFileRegistry(@Value("${hello.static.mmap-max-size:64KB}") DataSize mmapMaxSize,
+                                                 @Value("${hello.static.unpack-dir:}") String unpackDir) throws IOException {
+        return new StaticFileRegistry(mmapMaxSize, unpackDir);
+    }
+
+    @Bean
+    public StaticFileHandler staticFileHandler(@Value("${server.compression.enabled:false}") boolean compression) {
+        return new StaticFileHandler(compression);
+    }
+
+    @Bean
+    public StaticFileHandlerMapping staticFileHandlerMapping(StaticFileRegistry registry, StaticFileHandler handler) {
+        return new StaticFileHandlerMapping(registry, handler);
+    }
+}
@@ -0,0 +1,135 @@
+package hello.springmvc.support.staticfile;
+/*
+    #. 정적 파일 응답
+     1. Accept-Encoding 에 맞는 .br / .gz 파일이 있으면 그 파일로 (Content-Encoding, Vary)
+     2. If-None-Match / If-Modified-Since 가 맞으면 304 => 파일도 매핑 메모리도 건드리지 않음
+        ETag = 내용 MD5, 단 .gz/.br 이 없는 파일은 응답 압축이 켜져 있으면 약한 ETag(W/"...")
+        (톰캣은 강한 ETag 응답은 압축하지 않음 => precompressStatic 없이 띄워도 텍스트 파일은 톰캣이 gzip)
+     3. 본문
+       a. 메모리 매핑된 작은 파일 = 매핑된 버퍼에서 바로 씀 (파일 열기 / read 시스템콜 X)
+       b. 큰 파일 + 톰캣 sendfile 지원 = 파일 경로만 요청 속성으로 넘김 => 서블릿이 끝난 뒤 톰캣이 커널에서 소켓으로 바로 보냄
+       c. 그 밖 = FileChannel.transferTo
+*/
+
+import hello.springmvc.support.metrics.MetricsContributor;
+import hello.springmvc.support.metrics.MetricsWriter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StaticFileHandler implements HttpRequestHandler, MetricsContributor {
+
+    static final String STATIC_FILE_ATTRIBUTE = StaticFileHandler.class.getName() + ".file";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LongAdder mapped = new LongAdder();
+    private final LongAdder sendfile = new LongAdder();
+    private final LongAdder transferTo = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    private final boolean compression;
+
+    public StaticFileHandler(boolean compression) {
+        this.compression = compression;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StaticFile original = (StaticFile) request.getAttribute(STATIC_FILE_ATTRIBUTE);
+        StaticFile file = selectEncoding(original, request, response);
+
+        String etag = compression && !original.hasVariants() ? "W/" + file.etag : file.etag;
+        if (new ServletWebRequest(request, response).checkNotModified(etag, file.lastModified)) {
+            notModified.increment();
+            return;
+        }
+        response.setContentType(original.contentType.toString());
+        response.setContentLengthLong(file.length);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (file.mapped != null) {
+            mapped.increment();
+            WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+            ByteBuffer body = file.mapped.duplicate(); // 위치(position) 는 요청마다 따로
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        } else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            sendfile.increment();
+            request.setAttribute(SENDFILE_FILENAME, file.path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, file.length);
+        } else {
+            transferTo.increment();
+            try (FileChannel channel = FileChannel.open(file.path)) {
+                WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+                long position = 0;
+                while (position < file.length) {
+                    position += channel.transferTo(position, file.length - position, target);
+                }
+            }
+        }
+    }
+
+    private static StaticFile selectEncoding(StaticFile file, HttpServletRequest request, HttpServletResponse response) {
+        if (!file.hasVariants()) {
+            return file;
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return file;
+        }
+        acceptEncoding = acceptEncoding.toLowerCase(Locale.ROOT);
+        if (file.br != null && acceptEncoding.contains("br")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "br");
+            return file.br;
+        }
+        if (file.gzip != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return file.gzip;
+        }
+        return file;
+    }
+
+    @Override
+    public void contribute(MetricsWriter writer) {
+        writer.family("hello_static_responses_total", "counter", "Static file responses by body path")
+                .sample("hello_static_responses_total", MetricsWriter.label("path", "mapped"), getMapped())
+                .sample("hello_static_responses_total", MetricsWriter.label("path", "sendfile"), getSendfile())
+                .sample("hello_static_responses_total", MetricsWriter.label("path", "transferTo"), getTransferTo())
+                .sample("hello_static_responses_total", MetricsWriter.label("path", "notModified"), getNotModified());
+    }
+
+    public long getMapped() {
+        return mapped.sum();
+    }
+
+    public long getSendfile() {
+        return sendfile.sum();
+    }
+
+    public long getTransferTo() {
+        return transferTo.sum();
+    }
+
+    public long getNotModified() {
+        return notModified.sum();
+    }
+}
@@ -0,0 +1,38 @@
+package hello.springmvc.support.staticfile;
+/*
+    #. StaticFileRegistry 에 있는 경로만 StaticFileHandler 로 보내는 매핑
+    : 컨트롤러 매핑(0) 보다 뒤, 스프링 리소스 핸들러(LOWEST_PRECEDENCE - 1) 보다 앞
+      목록에 없는 경로, GET/HEAD 가 아닌 요청, Range 요청 => null = 원래 ResourceHttpRequestHandler 가 처리
+*/
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+
+public class StaticFileHandlerMapping extends AbstractHandlerMapping {
+
+    private final StaticFileRegistry registry;
+    private final StaticFileHandler handler;
+
+    public StaticFileHandlerMapping(StaticFileRegistry registry, StaticFileHandler handler) {
+        this.registry = registry;
+        this.handler = handler;
+        setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+    }
+
+    @Override
+    protected Object getHandlerInternal(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method) || request.getHeader(HttpHeaders.RANGE) != null) {
+            return null;
+        }
+        StaticFile file = registry.get(initLookupPath(request));
+        if (file == null) {
+            return null;
+        }
+        request.setAttribute(StaticFileHandler.STATIC_FILE_ATTRIBUTE, file);
+        return handler;
+    }
+}
@@ -0,0 +1,140 @@
+package hello.springmvc.support.staticfile;
+/*
+    #. classpath:/static/** 를 시작할 때 한번 훑어서 StaticFile 목록을 만듦
+    : jar 안에 있는 파일은 디스크(unpack-dir) 에 풀어둠 => sendfile / 메모리 매핑은 진짜 파일이 있어야 함
+      exploded(bootRun, IDE) 면 원래 파일을 그대로 씀
+      목록에 없는 경로는 다루지 않음 => 요청 경로로 파일 시스템을 찾아다니지 않으므로 ../ 같은 경로도 문제 없음
+
+    [설정]
+     hello.static.mmap-max-size=64KB => 이 크기 이하는 메모리 매핑 (index.html 같은 작고 자주 쓰는 파일)
+     hello.static.unpack-dir=        => 비우면 임시 디렉터리 (종료할 때 지움 = 재시작마다 쌓이지 않음)
+*/
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+public class StaticFileRegistry implements Closeable {
+
+    private static final String LOCATION = "static/";
+
+    private final Map<String, StaticFile> files = new HashMap<>();
+    private final long mmapMaxSize;
+    private final Path unpackDir;
+    private final boolean temporary;
+
+    public StaticFileRegistry(DataSize mmapMaxSize, String unpackDir) throws IOException {
+        this.mmapMaxSize = mmapMaxSize.toBytes();
+        this.temporary = !StringUtils.hasText(unpackDir);
+        this.unpackDir = temporary
+                ? Files.createTempDirectory("hello-static")
+                : Files.createDirectories(Paths.get(unpackDir));
+        scan();
+    }
+
+    /* 컨텍스트 종료 때 (@Bean 의 close 추론) = 임시 디렉터리만 지움, unpack-dir 을 지정했으면 남겨둠 */
+    @Override
+    public void close() {
+        if (!temporary) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(unpackDir);
+        } catch (IOException e) {
+            log.warn("cannot delete static unpack dir {}: {}", unpackDir, e.toString());
+        }
+    }
+
+    StaticFile get(String lookupPath) {
+        return files.get(lookupPath);
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    private void scan() throws IOException {
+        long mapped = 0;
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:/" + LOCATION + "**");
+        for (Resource resource : resources) {
+            String url = resource.getURL().toString();
+            int index = url.lastIndexOf("/" + LOCATION);
+            if (url.endsWith("/") || index < 0 || !resource.isReadable()) {
+                continue; // 디렉터리
+            }
+            String relative = url.substring(index + LOCATION.length() + 1);
+            StaticFile file = load(relative, resource);
+            files.putIfAbsent("/" + relative, file);
+            if (file.mapped != null) {
+                mapped += file.length;
+            }
+        }
+        // .gz / .br 은 원본에 붙임 (원본이 없는 압축 파일은 그냥 그 이름으로만 제공)
+        files.forEach((path, file) -> {
+            StaticFile original;
+            if (path.endsWith(".gz") && (original = files.get(path.substring(0, path.length() - 3))) != null) {
+                original.gzip = file;
+            } else if (path.endsWith(".br") && (original = files.get(path.substring(0, path.length() - 3))) != null) {
+                original.br = file;
+            }
+        });
+        log.info("static files={} mapped={}B unpackDir={}", files.size(), mapped, unpackDir);
+    }
+
+    private StaticFile load(String relative, Resource resource) throws IOException {
+        Path path;
+        if (resource.isFile()) {
+            path = resource.getFile().toPath();
+        } else {
+            path = unpackDir.resolve(relative);
+            Files.createDirectories(path.getParent());
+            try (InputStream in = resource.getInputStream()) {
+                Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        long length = Files.size(path);
+        String etag;
+        try (InputStream in = Files.newInputStream(path)) {
+            etag = "\"" + DigestUtils.md5DigestAsHex(in) + "\"";
+        }
+        // Last-Modified 는 초 단위로 비교되므로 밀리초는 버림
+        long lastModified = resource.lastModified() / 1000 * 1000;
+        MappedByteBuffer mapped = null;
+        if (length <= mmapMaxSize) {
+            try (FileChannel channel = FileChannel.open(path)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            }
+        }
+        MediaType contentType = MediaTypeFactory.getMediaType(stripEncoding(relative))
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return new StaticFile(path, contentType, length, lastModified, etag, mapped);
+    }
+
+    // index.html.gz 의 Content-Type = index.html 의 것
+    private static String stripEncoding(String relative) {
+        if (relative.endsWith(".gz") || relative.endsWith(".br")) {
+            return relative.substring(0, relative.length() - 3);
+        }
+        return relative;
+    }
+}
@@ -0,0 +1,79 @@
+package hello.springmvc.support.thread;
+/*
+    #. 요청마다 가상 쓰레드(virtual thread) 하나로 처리하는 모드
+    : 기본 톰캣은 플랫폼 쓰레드 풀(최대 200개) => InputStream/Writer 처럼 블로킹 I/O 로 오래 기다리는 요청이 많으면
+      CPU 는 놀고 있는데 쓰레드가 먼저 바닥남
+      => 톰캣 커넥터의 Executor 를 "요청마다 가상 쓰레드를 새로 만드는" Executor 로 바꿈 (블로킹되면 캐리어 쓰레드를 놓아줌)
+
+    [설정] hello.server.virtual-threads=true  (기본 false = 기존 쓰레드 풀 그대로)
+     : JDK 24 이상에서만 켜짐 => ./gradlew bootRun -PruntimeJdk=24 --args='--hello.server.virtual-threads=true'
+       톰캣 9 의 블로킹 읽기(NioEndpoint.NioSocketWrapper.fillReadBuffer) 는 synchronized 안에서 Object.wait 로 기다림
+       JDK 21~23 은 이때 가상 쓰레드가 캐리어 쓰레드에 고정(pinning) => 느린 업로드 수만큼 캐리어가 묶이고
+       캐리어 최대 256개(jdk.virtualThreadScheduler.maxPoolSize) 에서 막힘 = 플랫폼 쓰레드 풀처럼 쓰레드 수가 한계
+       JDK 24 (JEP 491) 부터 synchronized / Object.wait 에서 캐리어를 놓아줌 => 그보다 낮으면 시작할 때 실패
+     : 소스는 Java 11 로 컴파일되므로 JDK 21 API 는 리플렉션으로 찾음
+     : server.tomcat.threads.max 는 더 이상 의미 없음, 동시 연결 수는 server.tomcat.max-connections 로 제한
+     : 톰캣은 밖에서 받은 Executor 를 닫지 않음 => 컨텍스트 종료 때 여기서 shutdown
+       (ExecutorService 를 빈으로 올리면 부트의 applicationTaskExecutor 가 만들어지지 않으므로 빈으로 등록하지 않음)
+*/
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "hello.server.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig implements DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "http-vt-";
+
+    // JEP 491 = synchronized 에서 캐리어 고정이 없어진 버전
+    static final int MIN_FEATURE_VERSION = 24;
+
+    private ExecutorService executor;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadExecutorCustomizer() {
+        executor = newVirtualThreadPerTaskExecutor(Runtime.version().feature());
+        log.info("tomcat requests run on virtual threads java={}", Runtime.version());
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // 웹 서버가 먼저 멈춘 다음(SmartLifecycle) 빈 정리 단계에서 불림
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /* Thread.ofVirtual().name(prefix, 0).factory() => Executors.newThreadPerTaskExecutor(factory) */
+    static ExecutorService newVirtualThreadPerTaskExecutor(int featureVersion) {
+        if (featureVersion < MIN_FEATURE_VERSION) {
+            throw new IllegalStateException("hello.server.virtual-threads=true requires JDK " + MIN_FEATURE_VERSION
+                    + "+ (JEP 491): Tomcat 9 blocking reads wait in synchronized/Object.wait and pin the carrier thread"
+                    + " on JDK " + featureVersion);
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) perTask.invoke(null, factory);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            throw new IllegalStateException("virtual threads are not available on " + Runtime.version(), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("cannot create virtual thread executor", e);
+        }
+    }
+}
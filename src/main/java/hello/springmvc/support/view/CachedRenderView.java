@@ -0,0 +1,77 @@
+package hello.springmvc.support.view;
+/*
+    #. 렌더링 결과를 캐시하는 View (원래 View 를 감쌈)
+    : 히트 = 저장해 둔 바이트를 Content-Length 와 함께 그대로 씀 (템플릿 평가 X)
+      미스 = 원래 View 로 렌더링하면서 ContentCachingResponseWrapper 로 결과를 잡아두고 저장한 뒤 응답으로 복사
+      200 이 아닌 응답은 저장하지 않음
+*/
+
+import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.View;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+class CachedRenderView implements View {
+
+    private final View delegate;
+    private final String viewName;
+    private final Locale locale;
+    private final RenderCache cache;
+
+    CachedRenderView(View delegate, String viewName, Locale locale, RenderCache cache) {
+        this.delegate = delegate;
+        this.viewName = viewName;
+        this.locale = locale;
+        this.cache = cache;
+    }
+
+    @Override
+    public String getContentType() {
+        return delegate.getContentType();
+    }
+
+    @Override
+    public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        CachedView cachedView = (CachedView) request.getAttribute(CachedViewInterceptor.CACHED_VIEW_ATTRIBUTE);
+        if (cachedView == null) {
+            delegate.render(model, request, response);
+            return;
+        }
+
+        RenderCache.Key key = new RenderCache.Key(viewName, locale, modelCopy(model));
+        RenderCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            response.setContentType(entry.contentType);
+            response.setContentLength(entry.body.length);
+            response.getOutputStream().write(entry.body);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        delegate.render(model, request, wrapper);
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+            long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(cachedView.ttlSeconds());
+            cache.put(key, new RenderCache.Entry(wrapper.getContentAsByteArray(), wrapper.getContentType(), expiresAt));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    // 키로 쓸 모델 값 = 검증 결과(BindingResult) 는 요청마다 새 객체라서 뺌
+    private static Map<String, Object> modelCopy(Map<String, ?> model) {
+        Map<String, Object> copy = new HashMap<>();
+        if (model != null) {
+            model.forEach((name, value) -> {
+                if (!name.startsWith(BindingResult.MODEL_KEY_PREFIX)) {
+                    copy.put(name, value);
+                }
+            });
+        }
+        return copy;
+    }
+}
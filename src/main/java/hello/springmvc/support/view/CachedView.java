@@ -0,0 +1,21 @@
+package hello.springmvc.support.view;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    #. 렌더링 결과 캐시 (뷰 핸들러 메서드에 붙임)
+    : 같은 뷰 + 같은 로케일 + 같은 모델 값이면 => 템플릿을 다시 평가하지 않고 저장해 둔 HTML 바이트를 그대로 씀
+    [주의] 모델 밖의 값(요청 파라미터 ${param.x}, 세션, 현재 시각 ...) 으로 화면이 달라지는 뷰에는 붙이면 안 됨
+*/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedView {
+
+    /* 저장해 둔 결과를 쓰는 시간(초) */
+    long ttlSeconds() default 60;
+}
@@ -0,0 +1,28 @@
+package hello.springmvc.support.view;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/*
+    @CachedView 가 붙은 핸들러의 요청에 표시를 남김 => CachedViewResolver 가 보고 끼어듦
+    (@StreamingView 도 붙어 있으면 표시 안 함 = 스트리밍이 우선)
+*/
+public class CachedViewInterceptor implements HandlerInterceptor {
+
+    public static final String CACHED_VIEW_ATTRIBUTE = CachedViewInterceptor.class.getName() + ".cachedView";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            CachedView cachedView = handlerMethod.getMethodAnnotation(CachedView.class);
+            if (cachedView != null && !handlerMethod.hasMethodAnnotation(StreamingView.class)) {
+                request.setAttribute(CACHED_VIEW_ATTRIBUTE, cachedView);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package hello.springmvc.support.view;
+/*
+    #. @CachedView 요청에만 끼어드는 ViewResolver
+    : 가장 먼저 물어보는 리졸버로 등록해서
+      @CachedView 핸들러의 요청이면 => 원래 리졸버(타임리프) 의 View 를 CachedRenderView 로 감싸서 돌려줌
+      아니면 null => 다음 리졸버가 원래대로 처리
+      (템플릿 파싱 결과는 타임리프 자체 캐시 spring.thymeleaf.cache=true, View 객체는 리졸버 캐시가 재사용)
+*/
+
+import org.springframework.core.Ordered;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+
+import java.util.Locale;
+
+public class CachedViewResolver implements ViewResolver, Ordered {
+
+    private final ViewResolver delegate;
+    private final RenderCache cache;
+
+    public CachedViewResolver(ViewResolver delegate, RenderCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public View resolveViewName(String viewName, Locale locale) throws Exception {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || attributes.getAttribute(
+                CachedViewInterceptor.CACHED_VIEW_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null) {
+            return null;
+        }
+        View view = delegate.resolveViewName(viewName, locale);
+        return view == null ? null : new CachedRenderView(view, viewName, locale, cache);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,45 @@
+package hello.springmvc.support.view;
+/*
+    #. 꺼낼 때마다 세어서 flushEvery 건마다 응답을 flush 하는 Iterator
+    : 원본에서 다음 건을 기다리기 전에 flush => 이미 만들어진 HTML 은 먼저 나감
+      첫 hasNext() 에서도 flush => <head> ~ 목록 앞까지가 첫 데이터보다 먼저 나감
+*/
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+class FlushingIterator<T> implements Iterator<T> {
+
+    private final Iterator<T> delegate;
+    private final HttpServletResponse response;
+    private final int flushEvery;
+    private int pending = -1; // -1 = 아직 한번도 flush 안 함
+
+    FlushingIterator(Iterator<T> delegate, HttpServletResponse response, int flushEvery) {
+        this.delegate = delegate;
+        this.response = response;
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending < 0 || pending >= flushEvery) {
+            try {
+                response.flushBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pending = 0;
+        }
+        return delegate.hasNext();
+    }
+
+    @Override
+    public T next() {
+        T next = delegate.next();
+        pending++;
+        return next;
+    }
+}
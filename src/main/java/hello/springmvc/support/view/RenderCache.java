@@ -0,0 +1,157 @@
+package hello.springmvc.support.view;
+/*
+    #. 렌더링 결과 저장소 = LRU + TTL
+    : 키 = (뷰 이름, 로케일, 모델 복사본) => 모델 값이 바뀌면 다른 키
+      최대 개수를 넘으면 가장 오래 안 쓴 것부터 버림(LRU), 시간이 지난 것은 꺼낼 때 버림(TTL)
+      히트/미스/버림 카운터 (/view-cache-stats, /metrics)
+
+    [설정] hello.view.cache.max-entries=256
+*/
+
+import hello.springmvc.support.metrics.MetricsContributor;
+import hello.springmvc.support.metrics.MetricsWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class RenderCache implements MetricsContributor {
+
+    private final int maxEntries;
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public RenderCache(@Value("${hello.view.cache.max-entries:256}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        // accessOrder = true => get 할때마다 맨 뒤로 = 맨 앞이 가장 오래 안 쓴 것
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > RenderCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    Entry get(Key key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() < 0) {
+                entries.remove(key);
+                expirations.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    void put(Key key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    @Override
+    public void contribute(MetricsWriter writer) {
+        writer.gauge("hello_view_cache_entries", "Rendered views held in the cache", size())
+                .counter("hello_view_cache_hits_total", "Renders served from the cache", getHits())
+                .counter("hello_view_cache_misses_total", "Renders that ran the template", getMisses())
+                .counter("hello_view_cache_evictions_total", "Entries dropped by the LRU limit", getEvictions())
+                .counter("hello_view_cache_expirations_total", "Entries dropped after their TTL", getExpirations());
+    }
+
+    static final class Key {
+        private final String viewName;
+        private final Locale locale;
+        private final Map<String, Object> model;
+        private final int hash;
+
+        Key(String viewName, Locale locale, Map<String, Object> model) {
+            this.viewName = viewName;
+            this.locale = locale;
+            this.model = model;
+            this.hash = Objects.hash(viewName, locale, model);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && viewName.equals(other.viewName)
+                    && Objects.equals(locale, other.locale) && model.equals(other.model);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    static final class Entry {
+        final byte[] body;
+        final String contentType;
+        final long expiresAt;
+
+        Entry(byte[] body, String contentType, long expiresAt) {
+            this.body = body;
+            this.contentType = contentType;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
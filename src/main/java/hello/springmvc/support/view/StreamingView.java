@@ -0,0 +1,22 @@
+package hello.springmvc.support.view;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    #. 템플릿 출력을 만들어지는 대로 내보내기 (큰 목록 화면의 뷰 핸들러 메서드에 붙임)
+    : 모델 값이 Publisher(Flux) / Stream / Iterator 면 => 미리 목록으로 모으지 않고 th:each 가 한 건씩 꺼내 씀
+      flushEvery 건마다 응답을 flush => 브라우저는 서버가 아직 목록을 도는 동안 앞부분을 먼저 받아서 그림
+    [주의] @CachedView 와 같이 쓰면 캐시는 꺼짐 (캐시는 전체를 버퍼에 모아야 하므로)
+*/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StreamingView {
+
+    /* 몇 건마다 flush 할지 (Publisher 는 이 개수만큼씩 미리 요청) */
+    int flushEvery() default 100;
+}
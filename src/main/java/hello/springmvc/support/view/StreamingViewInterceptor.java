@@ -0,0 +1,75 @@
+package hello.springmvc.support.view;
+/*
+    #. @StreamingView 핸들러의 모델 값을 지연 Iterator 로 바꿔치기
+    : postHandle = 뷰 렌더링 직전 => Publisher / Stream / Iterator 모델 값을 FlushingIterator 로 감쌈
+       a. Publisher = Flux.toStream(flushEvery) => flushEvery 건씩 요청해서 받아둔 것을 꺼냄 (요청 스레드가 기다림)
+       b. Stream    = iterator()
+      afterCompletion = 렌더링이 중간에 실패해도 Stream 을 닫음 => Publisher 구독 취소, DB 커서 반납
+      flush 를 기준 크기까지 미루는 DeferredFlushFilter 는 이 요청에서 끔 => 첫 flush 에서 <head> 가 바로 나감
+    (타임리프가 출력을 버퍼에 모으지 않고 바로 쓰는 설정 = spring.thymeleaf.servlet.produce-partial-output-while-processing=true)
+*/
+
+import hello.springmvc.support.compression.DeferredFlushFilter;
+import org.reactivestreams.Publisher;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import reactor.core.publisher.Flux;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class StreamingViewInterceptor implements HandlerInterceptor {
+
+    private static final String STREAMS_ATTRIBUTE = StreamingViewInterceptor.class.getName() + ".streams";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || !(handler instanceof HandlerMethod)) {
+            return;
+        }
+        StreamingView streamingView = ((HandlerMethod) handler).getMethodAnnotation(StreamingView.class);
+        if (streamingView == null) {
+            return;
+        }
+        request.setAttribute(DeferredFlushFilter.FLUSH_IMMEDIATELY_ATTRIBUTE, Boolean.TRUE);
+        int flushEvery = Math.max(1, streamingView.flushEvery());
+        List<Stream<?>> streams = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : modelAndView.getModelMap().entrySet()) {
+            Object value = entry.getValue();
+            Iterator<?> iterator;
+            if (value instanceof Publisher) {
+                Stream<?> stream = Flux.from((Publisher<?>) value).toStream(flushEvery);
+                streams.add(stream);
+                iterator = stream.iterator();
+            } else if (value instanceof Stream) {
+                streams.add((Stream<?>) value);
+                iterator = ((Stream<?>) value).iterator();
+            } else if (value instanceof Iterator) {
+                iterator = (Iterator<?>) value;
+            } else {
+                continue;
+            }
+            entry.setValue(new FlushingIterator<>(iterator, response, flushEvery));
+        }
+        if (!streams.isEmpty()) {
+            request.setAttribute(STREAMS_ATTRIBUTE, streams);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        List<Stream<?>> streams = (List<Stream<?>>) request.getAttribute(STREAMS_ATTRIBUTE);
+        if (streams != null) {
+            streams.forEach(Stream::close);
+        }
+    }
+}
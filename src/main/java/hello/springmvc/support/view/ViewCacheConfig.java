@@ -0,0 +1,23 @@
+package hello.springmvc.support.view;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+/* @CachedView 표시 인터셉터 + 타임리프 리졸버를 감싼 캐시 리졸버 + @StreamingView 인터셉터 등록 */
+@Configuration
+public class ViewCacheConfig implements WebMvcConfigurer {
+
+    @Bean
+    public CachedViewResolver cachedViewResolver(ThymeleafViewResolver thymeleafViewResolver, RenderCache renderCache) {
+        return new CachedViewResolver(thymeleafViewResolver, renderCache);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new CachedViewInterceptor());
+        registry.addInterceptor(new StreamingViewInterceptor());
+    }
+}
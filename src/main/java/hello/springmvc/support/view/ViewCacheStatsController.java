@@ -0,0 +1,25 @@
+package hello.springmvc.support.view;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/* GET /view-cache-stats => 렌더링 캐시 카운터를 텍스트로 출력 */
+@RestController
+public class ViewCacheStatsController {
+
+    private final RenderCache renderCache;
+
+    public ViewCacheStatsController(RenderCache renderCache) {
+        this.renderCache = renderCache;
+    }
+
+    @GetMapping(value = "/view-cache-stats", produces = "text/plain")
+    public String viewCacheStats() {
+        return "size=" + renderCache.size() + '\n'
+                + "maxEntries=" + renderCache.getMaxEntries() + '\n'
+                + "hits=" + renderCache.getHits() + '\n'
+                + "misses=" + renderCache.getMisses() + '\n'
+                + "evictions=" + renderCache.getEvictions() + '\n'
+                + "expirations=" + renderCache.getExpirations() + '\n';
+    }
+}
@@ -0,0 +1,41 @@
+package hello.springmvc.support.nativeimage;
+/*
+    #. 네이티브 이미지 힌트 (-Pnative 빌드에만 컴파일됨, build.gradle 참조)
+    : native-image 는 빌드 때 닿을 수 있는 코드만 남김 => 실행 중에 리플렉션으로만 쓰는 클래스/메서드, 클래스패스 리소스는 알려줘야 함
+      a. HelloData = Jackson 바인딩(@RequestBody/@ResponseBody), @ModelAttribute 바인딩(BeanWrapper), PreparedBinder(MethodHandle),
+                     타임리프 ${data.username} 이 모두 생성자 + 롬복이 만든 getter/setter 를 리플렉션으로 찾음
+      b. Caffeine  = 설정 조합마다 미리 만들어진 캐시/노드 클래스를 이름으로 로드 (ResponseCache 조합 = SSSMWA, PSWMW)
+      c. 리소스     = 타임리프 템플릿, StaticFileRegistry 가 시작할 때 훑는 static/**
+      d. 로그백     = logback-spring.xml 을 Joran 이 읽으면서 클래스 이름으로 만들고 setter 로 설정
+                     (RingBufferAsyncAppender 의 capacity/batchSize/overflowPolicy/appender-ref, DiscardedMessageCounter,
+                      overflowPolicy 문자열 => OverflowPolicy.valueOf)
+*/
+
+import hello.springmvc.basic.HelloData;
+import hello.springmvc.support.logging.DiscardedMessageCounter;
+import hello.springmvc.support.logging.OverflowPolicy;
+import hello.springmvc.support.logging.RingBufferAsyncAppender;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.nativex.hint.NativeHint;
+import org.springframework.nativex.hint.ResourceHint;
+import org.springframework.nativex.hint.TypeAccess;
+import org.springframework.nativex.hint.TypeHint;
+
+@NativeHint(types = @TypeHint(types = HelloData.class,
+        access = {TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.PUBLIC_METHODS, TypeAccess.DECLARED_FIELDS}))
+@NativeHint(types = @TypeHint(typeNames = {
+        "com.github.benmanes.caffeine.cache.SSSMWA",
+        "com.github.benmanes.caffeine.cache.PSWMW"},
+        access = TypeAccess.DECLARED_CONSTRUCTORS))
+@NativeHint(types = @TypeHint(types = {
+        RingBufferAsyncAppender.class,
+        DiscardedMessageCounter.class,
+        OverflowPolicy.class},
+        access = {TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.PUBLIC_METHODS}))
+@NativeHint(resources = @ResourceHint(patterns = {
+        "templates/response/hello.html",
+        "templates/response/items.html",
+        "static/.*"}))
+@Configuration(proxyBeanMethods = false)
+public class NativeHintsConfig {
+}
@@ -0,0 +1,40 @@
+package hello.springmvc.basic.reactive04;
+/*
+    #. 논블로킹 엔드포인트 매핑 (함수형 라우터)
+    : @Controller 로 만들면 스프링 MVC 가 같이 매핑해버리므로 => RouterFunction 으로 따로 등록
+      MVC 와 같은 경로를 쓰고, 다른 포트(hello.reactive.port) 의 서버에서 처리 = ReactiveServer 참조
+*/
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+@ConditionalOnProperty(name = "hello.reactive.enabled", havingValue = "true")
+public class ReactiveRouterConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveRequestBodyRoutes() {
+        RequestBodyJsonHandler01 json = new RequestBodyJsonHandler01();
+        RequestBodyStringHandler02 string = new RequestBodyStringHandler02();
+        return route(POST("/request-body-json-v3"), json::requestBodyJsonV3)
+                .andRoute(POST("/request-body-json-v5"), json::requestBodyJsonV5)
+                .andRoute(POST("/request-body-json-stream-v2"), json::requestBodyJsonStreamV2)
+                .andRoute(POST("/request-body-string-v2"), string::requestBodyStringV2)
+                .andRoute(POST("/request-body-string-v4"), string::requestBodyStringV4);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveResponseBodyRoutes() {
+        ResponseBodyHandler03 response = new ResponseBodyHandler03();
+        return route(GET("/response-body-string-v3"), response::responseBodyV3)
+                .andRoute(GET("/response-body-json-v1"), response::responseBodyJsonV1)
+                .andRoute(GET("/response-body-json-v2"), response::responseBodyJsonV2);
+    }
+}
@@ -0,0 +1,44 @@
+package hello.springmvc.basic.reactive04;
+/*
+    #. HTTP 요청 메시지 - JSON (논블로킹)
+    : RequestBodyJsonController04, RequestBodyJsonStreamController05 와 같은 요청을 Mono/Flux 로 처리
+      바디는 DataBuffer 조각으로 들어오는 대로 Jackson 토크나이저에 넘겨서 객체가 완성되면 하나씩 흘려보냄
+      => 바디를 기다리는 동안 쓰레드를 붙잡지 않음 (이벤트 루프 쓰레드 하나가 여러 업로드를 번갈아 처리)
+*/
+
+import hello.springmvc.basic.HelloData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+public class RequestBodyJsonHandler01 {
+
+    /* #1. = /request-body-json-v3 (@RequestBody HelloData) */
+    public Mono<ServerResponse> requestBodyJsonV3(ServerRequest request) {
+        return request.bodyToMono(HelloData.class)
+                .doOnNext(data -> log.info("username={}, age={}", data.getUsername(), data.getAge()))
+                .then(ServerResponse.ok().bodyValue("ok"));
+    }
+
+    /* #2. = /request-body-json-v5 (받은 객체를 그대로 JSON 으로 응답) */
+    public Mono<ServerResponse> requestBodyJsonV5(ServerRequest request) {
+        Mono<HelloData> data = request.bodyToMono(HelloData.class)
+                .doOnNext(d -> log.info("username={}, age={}", d.getUsername(), d.getAge()));
+        return ServerResponse.ok().body(data, HelloData.class);
+    }
+
+/*
+    #3. = /request-body-json-stream-v2 (JSON 배열 또는 NDJSON 여러 건)
+     : 배열 원소 하나 / 한 줄이 완성될 때마다 HelloData 하나가 나옴 => 메모리에는 한 건만 있음
+     content-type: application/json 또는 application/x-ndjson
+*/
+    public Mono<ServerResponse> requestBodyJsonStreamV2(ServerRequest request) {
+        return request.bodyToFlux(HelloData.class)
+                .doOnNext(data -> log.debug("username={}, age={}", data.getUsername(), data.getAge()))
+                .count()
+                .doOnNext(count -> log.info("records={}", count))
+                .then(ServerResponse.ok().bodyValue("ok"));
+    }
+}
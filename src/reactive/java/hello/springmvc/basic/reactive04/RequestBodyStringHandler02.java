@@ -0,0 +1,31 @@
+package hello.springmvc.basic.reactive04;
+/*
+    #. HTTP 요청 메시지 - 단순 텍스트 (논블로킹)
+    : RequestBodyStringControler03 의 v2 는 InputStream 을 끝까지 읽는 동안 요청 쓰레드가 블로킹됨
+      여기서는 DataBuffer 가 도착할 때마다 그 조각만 디코딩하고 버퍼를 바로 반납
+*/
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+public class RequestBodyStringHandler02 {
+
+    /* #1. = /request-body-string-v2 : 줄 단위로 잘라서 들어오는 대로 처리 => 바디 전체를 String 으로 만들지 않음 */
+    public Mono<ServerResponse> requestBodyStringV2(ServerRequest request) {
+        return request.bodyToFlux(String.class)
+                .map(String::length)
+                .reduce(0L, Long::sum)
+                .doOnNext(length -> log.info("messageBody length={}", length))
+                .then(ServerResponse.ok().bodyValue("ok"));
+    }
+
+    /* #2. = /request-body-string-v4 (@RequestBody String) : 조각을 모아서 String 하나로 */
+    public Mono<ServerResponse> requestBodyStringV4(ServerRequest request) {
+        return request.bodyToMono(String.class)
+                .doOnNext(messageBody -> log.info("messageBody={}", messageBody))
+                .then(ServerResponse.ok().bodyValue("ok"));
+    }
+}
@@ -0,0 +1,33 @@
+package hello.springmvc.basic.reactive04;
+/* #. HTTP 응답 - 메시지 바디에 직접 입력 (논블로킹) = ResponseBodyController02 와 같은 응답 */
+
+import hello.springmvc.basic.HelloData;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+public class ResponseBodyHandler03 {
+
+    /* #1. = /response-body-string-v3 */
+    public Mono<ServerResponse> responseBodyV3(ServerRequest request) {
+        return ServerResponse.ok().bodyValue("ok");
+    }
+
+    /* #2. = /response-body-json-v1 (ResponseEntity 처럼 상태 코드 지정) */
+    public Mono<ServerResponse> responseBodyJsonV1(ServerRequest request) {
+        return ServerResponse.status(HttpStatus.OK).bodyValue(helloData());
+    }
+
+    /* #3. = /response-body-json-v2 */
+    public Mono<ServerResponse> responseBodyJsonV2(ServerRequest request) {
+        return ServerResponse.ok().bodyValue(helloData());
+    }
+
+    private HelloData helloData() {
+        HelloData helloData = new HelloData();
+        helloData.setUsername("userA");
+        helloData.setAge(20);
+        return helloData;
+    }
+}
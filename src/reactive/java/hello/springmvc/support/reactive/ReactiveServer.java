@@ -0,0 +1,132 @@
+package hello.springmvc.support.reactive;
+/*
+    #. 논블로킹 서버 (Reactor Netty) 를 톰캣 옆에 같이 띄움
+    : 스프링 부트는 MVC 와 WebFlux 가 둘 다 있으면 MVC(톰캣) 만 띄움
+      => RouterFunction 빈들을 모아서 HttpHandler 로 만들고 Reactor Netty 서버를 다른 포트에 직접 띄움
+         같은 애플리케이션 컨텍스트(같은 빈, 같은 ObjectMapper) 를 쓰므로 두 방식을 같은 조건에서 비교할 수 있음
+
+    [빌드] -Preactive 일 때만 src/reactive/java 와 WebFlux 가 들어감 (평소 빌드는 Reactor Netty / WebFlux 자동 설정을 안 올림)
+    [설정] hello.reactive.enabled=true (또는 --spring.profiles.active=reactive)
+     hello.reactive.port=8283                => 0 이면 빈 포트
+     hello.reactive.event-loop-threads=0     => 0 이면 Reactor Netty 기본값(CPU 수)
+     hello.json.stream.max-body-size=10MB    => 객체 하나 / 줄 하나를 모을 때 쓰는 최대 메모리 (넘으면 413)
+     server.compression.enabled / min-response-size => 톰캣과 같은 설정으로 응답 gzip 압축
+*/
+
+import hello.springmvc.support.json.JsonCodecRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hello.reactive.enabled", havingValue = "true")
+public class ReactiveServer implements SmartLifecycle {
+
+    private static final String THREAD_PREFIX = "reactive";
+
+    private final ObjectProvider<RouterFunction<ServerResponse>> routes;
+    private final JsonCodecRegistry jsonCodecRegistry;
+    private final int port;
+    private final int eventLoopThreads;
+    private final int maxInMemorySize;
+    private final boolean compression;
+    private final int compressionMinSize;
+
+    private LoopResources loops;
+    private DisposableServer server;
+
+    public ReactiveServer(ObjectProvider<RouterFunction<ServerResponse>> routes,
+                          JsonCodecRegistry jsonCodecRegistry,
+                          @Value("${hello.reactive.port:8283}") int port,
+                          @Value("${hello.reactive.event-loop-threads:0}") int eventLoopThreads,
+                          @Value("${hello.json.stream.max-body-size:10MB}") DataSize maxInMemorySize,
+                          @Value("${server.compression.enabled:false}") boolean compression,
+                          @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize) {
+        this.routes = routes;
+        this.jsonCodecRegistry = jsonCodecRegistry;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads;
+        this.maxInMemorySize = Math.toIntExact(maxInMemorySize.toBytes());
+        this.compression = compression;
+        this.compressionMinSize = Math.toIntExact(compressionMinSize.toBytes());
+    }
+
+    @Override
+    public void start() {
+        RouterFunction<ServerResponse> route = routes.orderedStream()
+                .reduce(RouterFunction::and)
+                .orElseThrow(() -> new IllegalStateException("no reactive routes"))
+                .filter(payloadTooLarge());
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(route, strategies());
+        loops = eventLoopThreads > 0
+                ? LoopResources.create(THREAD_PREFIX, eventLoopThreads, true)
+                : LoopResources.create(THREAD_PREFIX);
+        HttpServer httpServer = HttpServer.create()
+                .port(port)
+                .runOn(loops);
+        if (compression) {
+            httpServer = httpServer.compress(compressionMinSize);
+        }
+        server = httpServer
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("reactive server started port={}", server.port());
+    }
+
+    /* JSON 코덱은 MVC 와 같은 ObjectMapper (JsonCodecRegistry) 를 씀 */
+    private HandlerStrategies strategies() {
+        return HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(jsonCodecRegistry.getObjectMapper()));
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(jsonCodecRegistry.getObjectMapper()));
+                    codecs.defaultCodecs().maxInMemorySize(maxInMemorySize);
+                })
+                .build();
+    }
+
+    // 모으는 크기 제한을 넘으면 500 이 아니라 413
+    private static HandlerFilterFunction<ServerResponse, ServerResponse> payloadTooLarge() {
+        return (request, next) -> next.handle(request)
+                .onErrorMap(DataBufferLimitException.class,
+                        e -> new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e));
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            loops.disposeLater().block();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /* 실제로 열린 포트 (hello.reactive.port=0 일 때) */
+    public int getPort() {
+        return server.port();
+    }
+}
@@ -0,0 +1,92 @@
+package hello.springmvc.load;
+/*
+    #. 블로킹(톰캣 + MVC) vs 논블로킹(Reactor Netty + WebFlux) 비교
+    : 같은 애플리케이션에 두 서버를 같이 띄우고 (hello.reactive.enabled=true) 같은 경로에 같은 부하를 줌
+      a. 일정 속도 요청 = JSON 요청/응답, 문자열 요청 => p50/p99, 처리량
+      b. 느린 업로드 = 바디를 천천히 보내는 연결 수천 개 => 처리량, p99
+      각 실행 동안 서버 쓰레드 수(톰캣 http-nio-*, 네티 reactive-*)의 최댓값을 같이 출력
+
+    실행: ./gradlew loadTest -Preactive --tests '*ReactiveStackLoadTest' (src/reactiveTest, -Preactive 빌드에만 있음)
+    설정: EndpointLatencyLoadTest, SlowClientLoadTest 와 같은 load.* 값을 씀
+*/
+
+import hello.springmvc.support.reactive.ReactiveServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "hello.reactive.enabled=true",
+        "hello.reactive.port=0",
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=10000",
+        "logging.level.hello.springmvc=warn"})
+class ReactiveStackLoadTest {
+
+    static final int RATE = EndpointLatencyLoadTest.RATE;
+    static final Duration DURATION = EndpointLatencyLoadTest.DURATION;
+    static final Duration WARMUP = EndpointLatencyLoadTest.WARMUP;
+    static final int SLOW_CLIENTS = SlowClientLoadTest.CLIENTS;
+    static final Duration SLOW_DELAY = SlowClientLoadTest.DELAY;
+    static final int CONNECT_RATE = SlowClientLoadTest.CONNECT_RATE;
+    static final double TOLERANCE = EndpointLatencyLoadTest.TOLERANCE;
+
+    @LocalServerPort
+    int servletPort;
+
+    @Autowired
+    ReactiveServer reactiveServer;
+
+    @Test
+    void servletVersusReactive() throws Exception {
+        List<LoadTarget> targets = List.of(
+                LoadTarget.post("request-body-json-v3", "/request-body-json-v3",
+                        "application/json", "{\"username\":\"hello\", \"age\":20}"),
+                LoadTarget.post("request-body-string-v4", "/request-body-string-v4", "text/plain", "hello"),
+                LoadTarget.get("response-body-json-v2", "/response-body-json-v2"));
+
+        List<LoadResult> results = new ArrayList<>();
+        results.addAll(run("servlet", servletPort, "http-nio-", targets));
+        results.addAll(run("reactive", reactiveServer.getPort(), "reactive-", targets));
+
+        for (LoadResult result : results) {
+            assertThat(result.errors).as(result.name + " errors").isZero();
+        }
+        List<String> regressions = LoadBaseline.compare("reactive-stack", results, TOLERANCE);
+        assertThat(regressions).as("latency regressions").isEmpty();
+    }
+
+    private List<LoadResult> run(String stack, int port, String threadPrefix, List<LoadTarget> targets) throws Exception {
+        List<LoadResult> results = new ArrayList<>();
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator("http://localhost:" + port);
+        for (LoadTarget target : targets) {
+            try (ThreadSampler threads = new ThreadSampler(threadPrefix)) {
+                LoadResult result = generator.run(target, RATE, WARMUP, DURATION);
+                results.add(report(stack, result, threads));
+            }
+        }
+
+        SlowClientDriver driver = new SlowClientDriver(port, "/request-body-string-v2", "hello slow client");
+        driver.run("warmup", Math.min(SLOW_CLIENTS, 500), Duration.ofMillis(10), CONNECT_RATE);
+        try (ThreadSampler threads = new ThreadSampler(threadPrefix)) {
+            LoadResult result = driver.run("slow-upload", SLOW_CLIENTS, SLOW_DELAY, CONNECT_RATE);
+            results.add(report(stack, result, threads));
+        }
+        return results;
+    }
+
+    private LoadResult report(String stack, LoadResult result, ThreadSampler threads) {
+        LoadResult named = new LoadResult(stack + "-" + result.name, result.latency, result.errors, result.throughput);
+        System.out.println(named + " threads=" + threads.max());
+        return named;
+    }
+}
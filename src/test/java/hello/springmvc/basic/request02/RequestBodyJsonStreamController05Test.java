@@ -0,0 +1,95 @@
+package hello.springmvc.basic.request02;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springmvc.support.json.JsonCodecRegistry;
+import hello.springmvc.support.json.JsonRecordReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestBodyJsonStreamController05Test {
+
+    private static final int LIMIT = 100;
+
+    private final RequestBodyJsonStreamController05 controller = new RequestBodyJsonStreamController05(
+            new JsonRecordReader(new JsonCodecRegistry(new ObjectMapper())), DataSize.ofBytes(LIMIT));
+
+    @Test
+    void bodyWithinLimitIsRead() throws Exception {
+        assertThat(controller.requestBodyJsonStreamV1(chunked("{\"username\":\"hello\",\"age\":20}"))).isEqualTo("ok");
+        assertThat(controller.requestBodyJsonStreamV2(chunked("{\"username\":\"a\",\"age\":1}\n{\"username\":\"b\",\"age\":2}")))
+                .isEqualTo("ok");
+    }
+
+    @Test
+    void contentLengthOverLimitIsTooLarge() {
+        assertStatus(() -> controller.requestBodyJsonStreamV1(withLength(tooLargeObject())), HttpStatus.PAYLOAD_TOO_LARGE);
+        assertStatus(() -> controller.requestBodyJsonStreamV2(withLength(tooLargeArray())), HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    // 길이를 모르는 바디는 잭슨이 읽는 도중에 끊김 (JsonMappingException 으로 감싸져도 400 이 아니라 413)
+    @Test
+    void chunkedBodyOverLimitIsTooLarge() {
+        assertStatus(() -> controller.requestBodyJsonStreamV1(chunked(tooLargeObject())), HttpStatus.PAYLOAD_TOO_LARGE);
+        assertStatus(() -> controller.requestBodyJsonStreamV2(chunked(tooLargeArray())), HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    void invalidJsonIsBadRequest() {
+        assertStatus(() -> controller.requestBodyJsonStreamV1(chunked("{\"username\":")), HttpStatus.BAD_REQUEST);
+        assertStatus(() -> controller.requestBodyJsonStreamV2(chunked("[{\"age\":\"x\"}]")), HttpStatus.BAD_REQUEST);
+    }
+
+    private static void assertStatus(ThrowingCall call, HttpStatus status) {
+        assertThatThrownBy(call::run).isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(status));
+    }
+
+    private static String tooLargeObject() {
+        return "{\"username\":\"" + "x".repeat(LIMIT) + "\",\"age\":20}";
+    }
+
+    private static String tooLargeArray() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"username\":\"hello\",\"age\":").append(i).append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    private static MockHttpServletRequest withLength(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/request-body-json-stream");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // Transfer-Encoding: chunked = Content-Length 없음
+    private static MockHttpServletRequest chunked(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/request-body-json-stream") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    interface ThrowingCall {
+        Object run() throws Exception;
+    }
+}
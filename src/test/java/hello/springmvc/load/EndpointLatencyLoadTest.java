@@ -0,0 +1,57 @@
+package hello.springmvc.load;
+/*
+    #. 엔드포인트별 지연시간 부하 테스트
+    : 애플리케이션을 랜덤 포트로 띄우고 엔드포인트마다 정해진 속도로 요청을 보내서 p50/p99/p999, 처리량 측정
+      => 베이스라인(load-baseline.properties)보다 p99 가 tolerance 이상 나빠지면 실패
+
+    실행: ./gradlew loadTest
+    설정: -Pload.rate=300 (초당 요청), -Pload.duration=10 (초), -Pload.warmup=3 (초), -Pload.tolerance=0.5
+          -Pload.updateBaseline=true = 이번 결과를 베이스라인으로 저장
+    (기본 test 태스크에서는 @Tag("load") 가 빠지므로 실행되지 않음)
+*/
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.hello.springmvc=warn") // 핸들러 로그가 측정값에 섞이지 않게
+class EndpointLatencyLoadTest {
+
+    static final int RATE = Integer.getInteger("load.rate", 200);
+    static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.duration", 10));
+    static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup", 3));
+    static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.5"));
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void endpointLatency() {
+        List<LoadTarget> targets = List.of(
+                LoadTarget.post("request-body-json-v3", "/request-body-json-v3",
+                        "application/json", "{\"username\":\"hello\", \"age\":20}"),
+                LoadTarget.get("mapping-users-orders", "/mapping/users/userA/orders/100"),
+                LoadTarget.get("response-view-v2", "/response-view-v2"));
+
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator("http://localhost:" + port);
+        List<LoadResult> results = new ArrayList<>();
+        for (LoadTarget target : targets) {
+            LoadResult result = generator.run(target, RATE, WARMUP, DURATION);
+            System.out.println(result);
+            results.add(result);
+            assertThat(result.errors).as(target.name + " errors").isZero();
+        }
+
+        List<String> regressions = LoadBaseline.compare("endpoint-latency", results, TOLERANCE);
+        assertThat(regressions).as("latency regressions").isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package hello.springmvc.load;
+/*
+    #. 베이스라인 비교
+    : src/test/resources/load-baseline.properties 에 엔드포인트별 p99(ms) 기준값을 저장해두고
+      이번 결과의 p99 가 기준값 * (1 + tolerance) 보다 크면 회귀로 판단
+      -Dload.updateBaseline=true 로 실행하면 이번 결과로 기준값을 덮어씀
+      이번 결과는 항상 build/load-test/<name>.properties 에 남김
+*/
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+final class LoadBaseline {
+
+    private static final Path BASELINE = Paths.get("src/test/resources/load-baseline.properties");
+    private static final Path RESULTS_DIR = Paths.get("build/load-test");
+
+    private LoadBaseline() {
+    }
+
+    /* 회귀 목록을 리턴 (없으면 빈 리스트) */
+    static List<String> compare(String suite, List<LoadResult> results, double tolerance) {
+        Properties baseline = load();
+        Properties current = new Properties();
+        List<String> regressions = new ArrayList<>();
+        for (LoadResult result : results) {
+            String key = suite + "." + result.name + ".p99.ms";
+            double p99 = result.percentileMillis(99);
+            current.setProperty(key, String.format(Locale.ROOT, "%.2f", p99));
+            current.setProperty(suite + "." + result.name + ".rps", String.format(Locale.ROOT, "%.1f", result.throughput));
+            String expected = baseline.getProperty(key);
+            if (expected != null && p99 > Double.parseDouble(expected) * (1 + tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s p99 %.2fms > baseline %sms (+%.0f%%)",
+                        result.name, p99, expected, tolerance * 100));
+            }
+        }
+        store(RESULTS_DIR.resolve(suite + ".properties"), current);
+        if (Boolean.getBoolean("load.updateBaseline")) {
+            current.forEach((k, v) -> {
+                if (k.toString().endsWith(".p99.ms")) {
+                    baseline.setProperty(k.toString(), v.toString());
+                }
+            });
+            store(BASELINE, baseline);
+            regressions.clear();
+        }
+        return regressions;
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        if (Files.exists(BASELINE)) {
+            try (InputStream in = Files.newInputStream(BASELINE)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return properties;
+    }
+
+    private static void store(Path path, Properties properties) {
+        try {
+            Files.createDirectories(path.getParent());
+            try (OutputStream out = Files.newOutputStream(path)) {
+                properties.store(out, "load test p99 latency (ms)");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
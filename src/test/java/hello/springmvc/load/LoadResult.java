@@ -0,0 +1,32 @@
+package hello.springmvc.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+
+/* 엔드포인트 하나의 측정 결과 */
+final class LoadResult {
+
+    final String name;
+    final Histogram latency; // 마이크로초
+    final long errors;
+    final double throughput; // 초당 완료 요청 수
+
+    LoadResult(String name, Histogram latency, long errors, double throughput) {
+        this.name = name;
+        this.latency = latency;
+        this.errors = errors;
+        this.throughput = throughput;
+    }
+
+    double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-32s count=%7d err=%4d rps=%8.1f p50=%8.2fms p99=%8.2fms p999=%8.2fms max=%8.2fms",
+                name, latency.getTotalCount(), errors, throughput,
+                percentileMillis(50), percentileMillis(99), percentileMillis(99.9), latency.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,44 @@
+package hello.springmvc.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/* 부하를 줄 엔드포인트 하나 = 이름(리포트/베이스라인 키) + 요청 */
+final class LoadTarget {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    final String name;
+    private final String method;
+    private final String path;
+    private final String contentType;
+    private final byte[] body;
+
+    private LoadTarget(String name, String method, String path, String contentType, byte[] body) {
+        this.name = name;
+        this.method = method;
+        this.path = path;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    static LoadTarget get(String name, String path) {
+        return new LoadTarget(name, "GET", path, null, null);
+    }
+
+    static LoadTarget post(String name, String path, String contentType, String body) {
+        return new LoadTarget(name, "POST", path, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    HttpRequest toRequest(String baseUrl) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", contentType)
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+}
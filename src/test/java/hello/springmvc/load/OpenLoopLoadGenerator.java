@@ -0,0 +1,76 @@
+package hello.springmvc.load;
+/*
+    #. 오픈 루프(open-loop) 부하 생성기
+    : 응답을 기다렸다가 다음 요청을 보내는(closed-loop) 방식은 서버가 느려지면 요청도 같이 줄어들어서 지연이 작게 측정됨
+      => 정해진 속도(rate)로 "보내야 했던 시각" 에 맞춰 계속 보내고,
+         지연은 실제로 보낸 시각이 아니라 보내야 했던 시각부터 잼 (coordinated omission 보정)
+      HdrHistogram Recorder 로 여러 쓰레드에서 기록 (마이크로초 단위)
+*/
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+final class OpenLoopLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient client;
+    private final String baseUrl;
+
+    OpenLoopLoadGenerator(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /* warmup 동안 보낸 요청은 기록하지 않음 */
+    LoadResult run(LoadTarget target, int ratePerSecond, Duration warmup, Duration duration) {
+        send(target, ratePerSecond, warmup, null, new LongAdder());
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        long started = System.nanoTime();
+        send(target, ratePerSecond, duration, recorder, errors);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        Histogram histogram = recorder.getIntervalHistogram();
+        return new LoadResult(target.name, histogram, errors.sum(), histogram.getTotalCount() / elapsedSeconds);
+    }
+
+    private void send(LoadTarget target, int ratePerSecond, Duration duration, Recorder recorder, LongAdder errors) {
+        HttpRequest request = target.toRequest(baseUrl);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long total = duration.toNanos() / intervalNanos;
+        CompletableFuture<?>[] inFlight = new CompletableFuture<?>[(int) total];
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() >= 400) {
+                            errors.increment();
+                            return;
+                        }
+                        if (recorder != null) {
+                            long micros = (System.nanoTime() - intended) / 1000;
+                            recorder.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                        }
+                    });
+        }
+        // 마지막 요청들의 응답까지 기다림
+        CompletableFuture.allOf(inFlight).exceptionally(e -> null).join();
+    }
+}
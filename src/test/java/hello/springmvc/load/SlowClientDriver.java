@@ -0,0 +1,196 @@
+package hello.springmvc.load;
+/*
+    #. 느린 클라이언트 수천~수만 개를 흉내내는 NIO 클라이언트
+    : 연결마다 쓰레드를 쓰면 클라이언트 쪽이 먼저 바닥나므로 Selector 쓰레드 하나로 모든 연결을 처리
+      요청 헤더 + 바디 앞부분만 보내고 delay 만큼 기다렸다가 나머지 바디를 보냄
+      => 서버는 그동안 InputStream 읽기에서 블로킹됨 (요청 쓰레드 하나를 붙잡고 있음)
+
+    지연 = 연결 시작 ~ 응답을 끝까지 읽은 시각 (Connection: close 로 서버가 닫을 때까지)
+*/
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+final class SlowClientDriver {
+
+    private static final long GIVE_UP_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final byte[] STATUS_OK = "HTTP/1.1 200".getBytes(StandardCharsets.US_ASCII);
+
+    private final InetSocketAddress address;
+    private final byte[] head;
+    private final byte[] tail;
+
+    SlowClientDriver(int port, String path, String body) {
+        this.address = new InetSocketAddress("localhost", port);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        int half = bytes.length / 2;
+        String headers = "POST " + path + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Type: text/plain;charset=UTF-8\r\n"
+                + "Content-Length: " + bytes.length + "\r\n"
+                + "Connection: close\r\n\r\n";
+        byte[] headerBytes = headers.getBytes(StandardCharsets.US_ASCII);
+        this.head = new byte[headerBytes.length + half];
+        System.arraycopy(headerBytes, 0, head, 0, headerBytes.length);
+        System.arraycopy(bytes, 0, head, headerBytes.length, half);
+        this.tail = new byte[bytes.length - half];
+        System.arraycopy(bytes, half, tail, 0, tail.length);
+    }
+
+    /* clients 개 연결을 connectRate(초당) 속도로 열고, 모두 끝날 때까지 */
+    LoadResult run(String name, int clients, Duration delay, int connectRate) throws IOException {
+        Histogram latency = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+        ArrayDeque<Connection> waiting = new ArrayDeque<>(); // 지연 시간이 모두 같으므로 들어온 순서 = 보낼 순서
+        ByteBuffer scratch = ByteBuffer.allocate(8192);
+        long connectInterval = TimeUnit.SECONDS.toNanos(1) / connectRate;
+        long delayNanos = delay.toNanos();
+        int opened = 0;
+        int finished = 0;
+        long errors = 0;
+
+        long start = System.nanoTime();
+        try (Selector selector = Selector.open()) {
+            while (finished < clients) {
+                long now = System.nanoTime();
+                if (now - start > GIVE_UP_NANOS) {
+                    errors += clients - finished;
+                    break;
+                }
+                while (opened < clients && start + opened * connectInterval <= now) {
+                    opened++;
+                    try {
+                        open(selector, now);
+                    } catch (IOException e) {
+                        errors++;
+                        finished++;
+                    }
+                }
+                while (!waiting.isEmpty() && waiting.peekFirst().dueAt <= now) {
+                    Connection connection = waiting.pollFirst();
+                    connection.out = ByteBuffer.wrap(tail);
+                    connection.key.interestOps(SelectionKey.OP_WRITE);
+                }
+
+                long next = Long.MAX_VALUE;
+                if (opened < clients) {
+                    next = start + opened * connectInterval;
+                }
+                if (!waiting.isEmpty()) {
+                    next = Math.min(next, waiting.peekFirst().dueAt);
+                }
+                long timeoutMillis = next == Long.MAX_VALUE ? 100 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(next - now));
+                selector.select(timeoutMillis);
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (connection.step(key, scratch, delayNanos, waiting)) {
+                            finished++;
+                            if (connection.ok) {
+                                latency.recordValue(Math.min((System.nanoTime() - connection.startedAt) / 1000, latency.getHighestTrackableValue()));
+                            } else {
+                                errors++;
+                            }
+                        }
+                    } catch (IOException e) {
+                        key.channel().close();
+                        finished++;
+                        errors++;
+                    }
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return new LoadResult(name, latency, errors, latency.getTotalCount() / elapsedSeconds);
+    }
+
+    private void open(Selector selector, long now) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        try {
+            channel.configureBlocking(false);
+            Connection connection = new Connection(now);
+            if (channel.connect(address)) {
+                connection.out = ByteBuffer.wrap(head);
+                connection.key = channel.register(selector, SelectionKey.OP_WRITE, connection);
+            } else {
+                connection.key = channel.register(selector, SelectionKey.OP_CONNECT, connection);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private final class Connection {
+        final long startedAt;
+        SelectionKey key;
+        ByteBuffer out;
+        boolean tailSent;
+        long dueAt;
+        int statusMatched; // 응답 첫 줄을 STATUS_OK 와 몇 바이트까지 비교했는지
+        boolean ok = true;
+
+        Connection(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        /* 연결이 끝났으면 true */
+        boolean step(SelectionKey key, ByteBuffer scratch, long delayNanos, ArrayDeque<Connection> waiting) throws IOException {
+            SocketChannel channel = (SocketChannel) key.channel();
+            if (key.isConnectable()) {
+                channel.finishConnect();
+                out = ByteBuffer.wrap(head);
+                key.interestOps(SelectionKey.OP_WRITE);
+                return false;
+            }
+            if (key.isWritable()) {
+                channel.write(out);
+                if (out.hasRemaining()) {
+                    return false;
+                }
+                if (!tailSent) {
+                    // 바디 앞부분까지 보냄 => 나머지는 delay 뒤에
+                    tailSent = true;
+                    dueAt = System.nanoTime() + delayNanos;
+                    key.interestOps(0);
+                    waiting.addLast(this);
+                } else {
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+                return false;
+            }
+            if (key.isReadable()) {
+                scratch.clear();
+                int read = channel.read(scratch);
+                if (read < 0) {
+                    ok &= statusMatched == STATUS_OK.length;
+                    channel.close();
+                    return true;
+                }
+                for (int i = 0; i < read && statusMatched < STATUS_OK.length; i++) {
+                    if (scratch.get(i) != STATUS_OK[statusMatched++]) {
+                        ok = false;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
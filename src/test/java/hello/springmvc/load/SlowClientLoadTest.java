@@ -0,0 +1,89 @@
+package hello.springmvc.load;
+/*
+    #. 느린 클라이언트 1만 개 = 플랫폼 쓰레드 풀 vs 가상 쓰레드
+    : /request-body-string-v2 (InputStream 으로 바디를 읽는 블로킹 핸들러) 에 바디를 천천히 보내는 연결을 동시에 유지
+      플랫폼 쓰레드 모드 = 최대 200개 요청만 동시에 처리 => 처리량이 대략 200 / delay 에서 막힘
+      가상 쓰레드 모드   = 연결 수만큼 동시에 처리 (hello.server.virtual-threads=true, JDK 24+)
+      => 모드별 처리량, 지연(p50/p99), 서버 JVM 의 최대 쓰레드 수를 출력, p99 는 베이스라인과 비교
+
+    실행: ./gradlew loadTest -PruntimeJdk=24 --tests '*SlowClientLoadTest'
+          (JDK 24 보다 낮으면 가상 쓰레드 모드는 건너뜀 = VirtualThreadConfig 참조)
+
+    [측정] 1 CPU, JDK 21.0.1, delay 1000ms (가상 쓰레드 모드는 JDK 24 확인 전에 측정)
+     clients  connectRate  mode      rps     p50      p99      peakThreads
+     4000     2000         platform   696   3631ms   4313ms   215
+     4000     2000         virtual   1147   1449ms   1787ms   271
+     8000     8000         platform   822   7811ms   8774ms   215
+     8000     8000         virtual   1776   3688ms   3994ms   271
+     => JDK 21 가상 쓰레드는 쓰레드 271개(캐리어 최대 256 + 나머지) 에서 막힘 = 블로킹 읽기가 캐리어를 고정
+        JDK 24 결과는 아직 없음 (이 환경에 JDK 24 없음)
+    설정: -Pload.slowClients=10000, -Pload.slowDelayMs=1000, -Pload.connectRate=5000 (초당 새 연결)
+          서버와 클라이언트가 같은 JVM 이므로 파일 디스크립터가 연결 수 x 2 이상 필요 (ulimit -n)
+*/
+
+import hello.springmvc.SpringmvcApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+class SlowClientLoadTest {
+
+    static final int CLIENTS = Integer.getInteger("load.slowClients", 10_000);
+    static final Duration DELAY = Duration.ofMillis(Integer.getInteger("load.slowDelayMs", 1000));
+    static final int CONNECT_RATE = Integer.getInteger("load.connectRate", 5000);
+    static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.5"));
+
+    static final String PATH = "/request-body-string-v2";
+    static final String BODY = "hello slow client";
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        List<LoadResult> results = new ArrayList<>();
+        results.add(run("platform", false));
+        if (Runtime.version().feature() >= 24) {
+            results.add(run("virtual", true));
+        } else {
+            System.out.println("virtual thread mode skipped: requires JDK 24+, running on " + Runtime.version());
+        }
+
+        for (LoadResult result : results) {
+            assertThat(result.errors).as(result.name + " errors").isZero();
+        }
+        if (results.size() == 2) {
+            System.out.printf(Locale.ROOT, "virtual/platform throughput = %.2fx%n",
+                    results.get(1).throughput / results.get(0).throughput);
+        }
+        List<String> regressions = LoadBaseline.compare("slow-clients", results, TOLERANCE);
+        assertThat(regressions).as("latency regressions").isEmpty();
+    }
+
+    private LoadResult run(String mode, boolean virtualThreads) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(SpringmvcApplication.class).run(
+                        "--server.port=0",
+                        "--hello.server.virtual-threads=" + virtualThreads,
+                        "--server.tomcat.max-connections=" + (CLIENTS + 1000),
+                        "--server.tomcat.accept-count=" + CLIENTS,
+                        "--logging.level.hello.springmvc=warn")) {
+            SlowClientDriver driver = new SlowClientDriver(context.getWebServer().getPort(), PATH, BODY);
+            driver.run("warmup", Math.min(CLIENTS, 500), Duration.ofMillis(10), CONNECT_RATE);
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            LoadResult result = driver.run("slow-clients-" + mode, CLIENTS, DELAY, CONNECT_RATE);
+            System.out.println(result + " peakThreads=" + threads.getPeakThreadCount());
+            return result;
+        }
+    }
+}
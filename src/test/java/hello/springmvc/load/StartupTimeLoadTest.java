@@ -0,0 +1,141 @@
+package hello.springmvc.load;
+/*
+    #. 시작 ~ 첫 성공 요청까지 걸리는 시간 (time-to-first-successful-request)
+    : 모드마다 새 JVM 을 띄우고 (같은 JVM 이면 클래스가 이미 로드되어 있어서 의미 없음)
+      프로세스 시작 시점부터 GET /response-body-json-v1 이 200 을 줄 때까지 시간을 잼
+      a. default      = 기본 설정
+      b. fast-startup = 지연 초기화 프로파일 (--spring.profiles.active=fast-startup)
+      c. fast-startup-cds = b + AppCDS 아카이브 (./gradlew appCdsArchive 로 만든 build/cds/app.jsa 가 있을 때만)
+      => 모드별 p50/p99/max 출력, p99 는 베이스라인과 비교
+
+    실행: ./gradlew loadTest --tests '*StartupTimeLoadTest'
+          (CDS 모드까지: ./gradlew appCdsArchive loadTest -PruntimeJdk=21 --tests '*StartupTimeLoadTest')
+    설정: -Pload.startupRuns=5 (모드별 실행 횟수)
+*/
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+class StartupTimeLoadTest {
+
+    static final int RUNS = Integer.getInteger("load.startupRuns", 5);
+    static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.5"));
+    static final String CDS_ARCHIVE = System.getProperty("load.cdsArchive");
+    static final String CDS_CLASSPATH = System.getProperty("load.cdsClasspath");
+
+    static final String PATH = "/response-body-json-v1";
+    static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void timeToFirstSuccessfulRequest() throws Exception {
+        String classpath = System.getProperty("java.class.path");
+        List<LoadResult> results = new ArrayList<>();
+        results.add(run("default", classpath, List.of()));
+        results.add(run("fast-startup", classpath, List.of(), "--spring.profiles.active=fast-startup"));
+        if (CDS_ARCHIVE != null && Files.exists(Paths.get(CDS_ARCHIVE))) {
+            results.add(run("fast-startup-cds", CDS_CLASSPATH, List.of("-XX:SharedArchiveFile=" + CDS_ARCHIVE),
+                    "--spring.profiles.active=fast-startup"));
+        } else {
+            System.out.println("cds mode skipped: no archive (run ./gradlew appCdsArchive -PruntimeJdk=21 first)");
+        }
+
+        for (LoadResult result : results) {
+            assertThat(result.errors).as(result.name + " failed starts").isZero();
+        }
+        List<String> regressions = LoadBaseline.compare("startup", results, TOLERANCE);
+        assertThat(regressions).as("startup time regressions").isEmpty();
+    }
+
+    private LoadResult run(String mode, String classpath, List<String> jvmArgs, String... appArgs) throws Exception {
+        Histogram latency = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+        long errors = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            long micros = timeToFirstRequest(classpath, jvmArgs, appArgs);
+            if (micros < 0) {
+                errors++;
+            } else {
+                latency.recordValue(micros);
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        LoadResult result = new LoadResult("startup-" + mode, latency, errors, RUNS / seconds);
+        System.out.println(result);
+        return result;
+    }
+
+    /* 새 JVM 을 띄우고 첫 200 응답까지 마이크로초 (실패하면 -1) */
+    private long timeToFirstRequest(String classpath, List<String> jvmArgs, String... appArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add("hello.springmvc.SpringmvcApplication");
+        command.add("--server.port=" + port);
+        command.addAll(Arrays.asList(appArgs));
+        Path log = Files.createTempFile("startup-", ".log");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PATH))
+                .timeout(Duration.ofSeconds(5)).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long deadline = start + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline && process.isAlive()) {
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long micros = (System.nanoTime() - start) / 1000;
+                        Files.delete(log);
+                        return micros;
+                    }
+                } catch (ConnectException e) {
+                    // 아직 포트가 안 열림
+                }
+                Thread.sleep(5);
+            }
+            System.out.println("start failed, log: " + log + System.lineSeparator() + tail(log.toFile()));
+            return -1;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String tail(File file) throws IOException {
+        List<String> lines = Files.readAllLines(file.toPath());
+        return String.join(System.lineSeparator(), lines.subList(Math.max(0, lines.size() - 30), lines.size()));
+    }
+}
@@ -0,0 +1,42 @@
+package hello.springmvc.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/* 이름이 prefix 로 시작하는 쓰레드 수를 주기적으로 세서 최댓값을 기록 (서버가 요청 처리에 쓴 쓰레드 수) */
+final class ThreadSampler implements AutoCloseable {
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final String prefix;
+    private volatile int max;
+
+    ThreadSampler(String prefix) {
+        this.prefix = prefix;
+        timer.scheduleAtFixedRate(this::sample, 0, 100, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        int count = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && info.getThreadName().startsWith(prefix)) {
+                count++;
+            }
+        }
+        max = Math.max(max, count);
+    }
+
+    int max() {
+        return max;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        sample();
+    }
+}
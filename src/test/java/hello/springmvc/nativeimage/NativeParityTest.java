@@ -0,0 +1,294 @@
+package hello.springmvc.nativeimage;
+/*
+    #. JVM vs 네이티브 이미지 응답 비교
+    : JVM 으로 띄운 앱의 요청 매핑에서 hello.springmvc.basic 의 엔드포인트를 전부 꺼내서
+      경로 변수 / params / headers / consumes / produces 조건에 맞는 요청을 만들고
+      같은 요청을 JVM 과 네이티브 실행 파일에 보내서 상태 코드, Content-Type, 바디가 같은지 확인
+      -Preactive 로 빌드했으면 논블로킹 서버(hello.reactive.port) 도 같은 요청으로 비교 (라우터에 없는 경로는 양쪽 다 404 여야 같음)
+      네이티브 쪽 시작 ~ 첫 응답 시간과 RSS 도 출력
+
+    실행: ./gradlew nativeParityTest -Pnative (nativeCompile 후 실행, 실행 파일이 없으면 건너뜀)
+*/
+
+import hello.springmvc.SpringmvcApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.condition.MediaTypeExpression;
+import org.springframework.web.servlet.mvc.condition.NameValueExpression;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Tag("native")
+class NativeParityTest {
+
+    static final String EXECUTABLE = System.getProperty("native.executable", "build/native/nativeCompile/springmvc");
+    static final String BASIC_PACKAGE = "hello.springmvc.basic";
+
+    static final String QUERY = "username=hello&age=20";
+    static final String JSON = "{\"username\":\"hello\",\"age\":20}";
+    static final Pattern PATH_VARIABLE = Pattern.compile("\\{(\\w+)(?::[^}]*)?}");
+    // 에러 응답에서 매번 달라지는 값
+    static final Pattern VOLATILE = Pattern.compile("\"(timestamp|requestId)\":\"[^\"]*\"");
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+    // 논블로킹 서버는 -Preactive 빌드에만 있음
+    static final boolean REACTIVE = ClassUtils.isPresent("hello.springmvc.support.reactive.ReactiveServer", null);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void basicEndpointsAnswerTheSameOnJvmAndNative() throws Exception {
+        Path executable = Paths.get(EXECUTABLE);
+        assumeTrue(Files.isExecutable(executable), "no native executable at " + executable + " (./gradlew nativeParityTest -Pnative)");
+
+        int jvmReactivePort = freePort();
+        int nativePort = freePort();
+        int nativeReactivePort = freePort();
+        Path log = Files.createTempFile("native-", ".log");
+        long start = System.nanoTime();
+        Process nativeApp = new ProcessBuilder(executable.toString(),
+                "--server.port=" + nativePort,
+                "--hello.reactive.enabled=" + REACTIVE,
+                "--hello.reactive.port=" + nativeReactivePort,
+                "--logging.level.hello.springmvc=warn")
+                .redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(SpringmvcApplication.class).run(
+                        "--server.port=0",
+                        "--hello.reactive.enabled=" + REACTIVE,
+                        "--hello.reactive.port=" + jvmReactivePort,
+                        "--logging.level.hello.springmvc=warn")) {
+            long readyMillis = awaitFirstResponse(nativeApp, nativePort, start);
+            assertThat(readyMillis).as("native start, log: " + log).isNotNegative();
+            System.out.printf("native ready in %dms, rss=%s%n", readyMillis, rss(nativeApp));
+
+            int jvmPort = context.getWebServer().getPort();
+            List<Call> calls = calls(context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class));
+            List<String> mismatches = new ArrayList<>();
+            for (Call call : calls) {
+                compare("mvc", call, jvmPort, nativePort, mismatches);
+                if (REACTIVE) {
+                    compare("reactive", call, jvmReactivePort, nativeReactivePort, mismatches);
+                }
+            }
+            System.out.printf("compared %d calls x %d servers, mismatches=%d%n", calls.size(), REACTIVE ? 2 : 1, mismatches.size());
+            assertThat(calls).isNotEmpty();
+            assertThat(mismatches).as("JVM vs native").isEmpty();
+        } finally {
+            nativeApp.destroy();
+            if (!nativeApp.waitFor(10, TimeUnit.SECONDS)) {
+                nativeApp.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void compare(String server, Call call, int jvmPort, int nativePort, List<String> mismatches) throws Exception {
+        Answer onJvm = send(jvmPort, call);
+        Answer onNative = send(nativePort, call);
+        if (!onJvm.equals(onNative)) {
+            mismatches.add(server + " " + call + System.lineSeparator()
+                    + "    jvm    = " + onJvm + System.lineSeparator()
+                    + "    native = " + onNative);
+        }
+    }
+
+    /* hello.springmvc.basic 컨트롤러의 매핑마다 (경로 x 메서드) 요청 하나 */
+    private static List<Call> calls(RequestMappingHandlerMapping handlerMapping) {
+        List<Call> calls = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            if (!entry.getValue().getBeanType().getName().startsWith(BASIC_PACKAGE)) {
+                continue;
+            }
+            RequestMappingInfo info = entry.getKey();
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            for (String pattern : info.getPatternValues()) {
+                if (methods.isEmpty()) {
+                    calls.add(Call.of(RequestMethod.GET, pattern, info));
+                }
+                for (RequestMethod method : methods) {
+                    calls.add(Call.of(method, pattern, info));
+                }
+            }
+        }
+        calls.sort(Comparator.comparing(Call::toString));
+        return calls;
+    }
+
+    private Answer send(int port, Call call) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + call.pathAndQuery))
+                .timeout(TIMEOUT)
+                .method(call.method.name(), call.body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(call.body));
+        call.headers.forEach(builder::header);
+        HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        return new Answer(response.statusCode(),
+                response.headers().firstValue("Content-Type").orElse(null),
+                VOLATILE.matcher(response.body()).replaceAll("\"$1\":\"-\""));
+    }
+
+    /* 첫 200 응답까지 밀리초 (프로세스가 죽거나 시간 초과면 -1) */
+    private long awaitFirstResponse(Process process, int port, long start) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/hello-basic"))
+                .timeout(Duration.ofSeconds(5)).build();
+        long deadline = start + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && process.isAlive()) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+            } catch (ConnectException e) {
+                // 아직 포트가 안 열림
+            }
+            Thread.sleep(2);
+        }
+        return -1;
+    }
+
+    // 리눅스에서만 (/proc), 그 외에는 "?"
+    private static String rss(Process process) {
+        Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return line.substring("VmRSS:".length()).trim();
+                }
+            }
+        } catch (IOException e) {
+            // 무시
+        }
+        return "?";
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /* 매핑 조건을 만족하는 요청 하나 */
+    static final class Call {
+
+        final RequestMethod method;
+        final String pathAndQuery;
+        final Map<String, String> headers = new LinkedHashMap<>();
+        String body;
+
+        private Call(RequestMethod method, String pathAndQuery) {
+            this.method = method;
+            this.pathAndQuery = pathAndQuery;
+        }
+
+        static Call of(RequestMethod method, String pattern, RequestMappingInfo info) {
+            StringBuilder query = new StringBuilder(QUERY);
+            for (NameValueExpression<String> param : info.getParamsCondition().getExpressions()) {
+                if (!param.isNegated()) {
+                    query.append('&').append(param.getName()).append('=').append(Objects.toString(param.getValue(), "x"));
+                }
+            }
+            Call call = new Call(method, path(pattern) + "?" + query);
+            for (NameValueExpression<String> header : info.getHeadersCondition().getExpressions()) {
+                if (!header.isNegated()) {
+                    call.headers.put(header.getName(), Objects.toString(header.getValue(), "x"));
+                }
+            }
+            for (MediaTypeExpression produces : info.getProducesCondition().getExpressions()) {
+                if (!produces.isNegated()) {
+                    call.headers.put("Accept", produces.getMediaType().toString());
+                    break;
+                }
+            }
+            if (method == RequestMethod.POST || method == RequestMethod.PUT || method == RequestMethod.PATCH) {
+                boolean json = pattern.contains("json");
+                String contentType = json ? "application/json" : "text/plain";
+                for (MediaTypeExpression consumes : info.getConsumesCondition().getExpressions()) {
+                    if (!consumes.isNegated() && consumes.getMediaType().isConcrete()) {
+                        contentType = consumes.getMediaType().toString();
+                        break;
+                    }
+                }
+                call.headers.put("Content-Type", contentType);
+                call.body = contentType.contains("json") ? JSON : "hello";
+            }
+            return call;
+        }
+
+        // /mapping/users/{userId}/orders/{orderId} => /mapping/users/userA/orders/100
+        private static String path(String pattern) {
+            Matcher matcher = PATH_VARIABLE.matcher(pattern);
+            StringBuilder path = new StringBuilder();
+            while (matcher.find()) {
+                String name = matcher.group(1);
+                matcher.appendReplacement(path, name.equals("userId") ? "userA" : name.equals("orderId") ? "100" : "1");
+            }
+            matcher.appendTail(path);
+            return path.toString();
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + pathAndQuery + (headers.isEmpty() ? "" : " " + headers);
+        }
+    }
+
+    static final class Answer {
+
+        final int status;
+        final String contentType;
+        final String body;
+
+        Answer(int status, String contentType, String body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Answer)) {
+                return false;
+            }
+            Answer other = (Answer) o;
+            return status == other.status && Objects.equals(contentType, other.contentType) && body.equals(other.body);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(status, contentType, body);
+        }
+
+        @Override
+        public String toString() {
+            return status + " " + contentType + " " + (body.length() > 200 ? body.substring(0, 200) + "..." : body);
+        }
+    }
+}
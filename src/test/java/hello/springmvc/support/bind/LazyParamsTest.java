@@ -0,0 +1,58 @@
+package hello.springmvc.support.bind;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyParamsTest {
+
+    @Test
+    void findsFirstValueInQueryThenForm() {
+        LazyParams params = LazyParams.of("username=hello&age=20&tag=a", "username=body&tag=b");
+        assertThat(params.get("username")).isEqualTo("hello");
+        assertThat(params.getAll("tag")).isEqualTo(List.of("a", "b"));
+        assertThat(params.has("age")).isTrue();
+        assertThat(params.get("missing", "x")).isEqualTo("x");
+    }
+
+    @Test
+    void decodesKeysAndValues() {
+        LazyParams params = LazyParams.of("user%5Fname=a%2Bb+c&age=%33%30");
+        assertThat(params.get("user_name")).isEqualTo("a+b c");
+        assertThat(params.getInt("age", 0)).isEqualTo(30);
+        assertThat(params.getLong("age", 0)).isEqualTo(30L);
+    }
+
+    // + 는 공백으로 디코딩 => 스프링 컨버전처럼 앞뒤 공백은 무시 (/model-attribute-v1?age=+20 = 20)
+    @Test
+    void signAndSurroundingSpacesAreAccepted() {
+        assertThat(LazyParams.of("age=+20").getInt("age", 0)).isEqualTo(20);
+        assertThat(LazyParams.of("age=%2B20").getInt("age", 0)).isEqualTo(20);
+        assertThat(LazyParams.of("age=-20+").getLong("age", 0)).isEqualTo(-20L);
+        assertThatThrownBy(() -> LazyParams.of("age=+").getInt("age", 0)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    // %zz = 톰캣처럼 없는 값 (500 이 아님)
+    @Test
+    void malformedEscapeIsTreatedAsAbsent() {
+        LazyParams params = LazyParams.of("username=%zz&age=%zz&tag=%zz&tag=ok&%zz=1");
+        assertThat(params.get("username")).isNull();
+        assertThat(params.get("username", "default")).isEqualTo("default");
+        assertThat(params.getInt("age", 7)).isEqualTo(7);
+        assertThat(params.getLong("age", 7)).isEqualTo(7L);
+        assertThat(params.getAll("tag")).isEqualTo(List.of("ok"));
+    }
+
+    @Test
+    void emptyOrInvalidNumbers() {
+        assertThat(LazyParams.of("age=").getInt("age", 5)).isEqualTo(5);
+        assertThat(LazyParams.of("age").getLong("age", 5)).isEqualTo(5L);
+        assertThatThrownBy(() -> LazyParams.of("age=2x").getInt("age", 0)).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> LazyParams.of("age=2147483648").getInt("age", 0))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package hello.springmvc.support.bind;
+
+import hello.springmvc.basic.HelloData;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PreparedBinderTest {
+
+    private final PreparedBinder<HelloData> binder = PreparedBinder.compile(HelloData.class);
+
+    @Test
+    void bindsQueryString() {
+        HelloData data = binder.bind(get("username=hello&age=20&other=x"));
+        assertThat(data.getUsername()).isEqualTo("hello");
+        assertThat(data.getAge()).isEqualTo(20);
+    }
+
+    @Test
+    void decodesValuesBeforeParsing() {
+        HelloData data = binder.bind(get("username=a%2Bb+c&age=%33%30"));
+        assertThat(data.getUsername()).isEqualTo("a+b c");
+        assertThat(data.getAge()).isEqualTo(30);
+    }
+
+    @Test
+    void emptyNumberKeepsDefault() {
+        assertThat(binder.bind(get("age=")).getAge()).isZero();
+    }
+
+    @Test
+    void invalidNumberIsBadRequest() {
+        assertThatThrownBy(() -> binder.bind(get("age=2x"))).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> binder.bind(get("age=2147483648"))).isInstanceOf(ResponseStatusException.class);
+    }
+
+    // %zz = 톰캣처럼 그 쌍만 건너뜀 (500 이 아님), 나머지는 그대로 바인딩
+    @Test
+    void malformedEscapeSkipsThePair() {
+        HelloData data = binder.bind(get("username=%zz&age=%2"));
+        assertThat(data.getUsername()).isNull();
+        assertThat(data.getAge()).isZero();
+        assertThat(binder.bind(get("username=%zz&age=20")).getAge()).isEqualTo(20);
+    }
+
+    // POST /model-attribute-v3?debug=1 + 폼 바디 => 바디 값도 바인딩
+    @Test
+    void formBodyIsBoundEvenWithQueryString() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/model-attribute-v3");
+        request.setQueryString("debug=1");
+        request.setContentType("application/x-www-form-urlencoded");
+        request.addParameter("debug", "1");
+        request.addParameter("username", "body3");
+        request.addParameter("age", "33");
+
+        HelloData data = binder.bind(request);
+        assertThat(data.getUsername()).isEqualTo("body3");
+        assertThat(data.getAge()).isEqualTo(33);
+    }
+
+    // 컨테이너가 이미 디코딩한 값은 다시 디코딩하지 않음
+    @Test
+    void parameterValuesAreNotDecodedTwice() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/model-attribute-v3");
+        request.setContentType("application/x-www-form-urlencoded");
+        request.addParameter("username", "100%+");
+
+        assertThat(binder.bind(request).getUsername()).isEqualTo("100%+");
+    }
+
+    @Test
+    void parsesLongBounds() {
+        assertThat(QueryStrings.parseLong("x=-9223372036854775808", 2, 22)).isEqualTo(Long.MIN_VALUE);
+        assertThat(QueryStrings.parseLong("9223372036854775807", 0, 19)).isEqualTo(Long.MAX_VALUE);
+        assertThatThrownBy(() -> QueryStrings.parseLong("9223372036854775808", 0, 19))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> QueryStrings.parseLong("-", 0, 1)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    private static MockHttpServletRequest get(String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/model-attribute-v3");
+        request.setQueryString(query);
+        return request;
+    }
+}
@@ -0,0 +1,76 @@
+package hello.springmvc.support.buffer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BodyLeaseTest {
+
+    private final BufferPool bufferPool = new BufferPool(false, 4);
+
+    // chunked(-1) 바디가 최대 크기에 딱 맞으면 다 읽힘
+    @Test
+    void chunkedBodyFillingTheLargestClassIsAccepted() throws Exception {
+        byte[] body = body(BufferPool.maxCapacity());
+        BodyLease lease = new BodyLease(bufferPool);
+        try {
+            assertThat(lease.read(new ByteArrayInputStream(body), -1).length()).isEqualTo(body.length);
+        } finally {
+            lease.release();
+        }
+    }
+
+    @Test
+    void chunkedBodyOverTheLargestClassIsTooLarge() {
+        BodyLease lease = new BodyLease(bufferPool);
+        assertThatThrownBy(() -> lease.read(new ByteArrayInputStream(body(BufferPool.maxCapacity() + 1)), -1))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+        lease.release();
+    }
+
+    // 크기 단위 경계(4KB) 에 딱 맞는 chunked 바디도 키우지 않고 끝남
+    @Test
+    void chunkedBodyOnClassBoundaryKeepsContent() throws Exception {
+        BodyLease lease = new BodyLease(bufferPool);
+        try {
+            TextBody text = lease.read(new ByteArrayInputStream(body(4096 + 1)), -1);
+            assertThat(text.length()).isEqualTo(4097);
+            assertThat(text.charAt(4096)).isEqualTo('a');
+        } finally {
+            lease.release();
+        }
+    }
+
+    // 톰캣 스트림이 아니어도 direct 버퍼를 한 바이트씩 채우지 않음 (read() 는 버퍼가 꽉 찼을 때 확인용으로만)
+    @Test
+    void directBufferIsFilledInChunksFromOtherStreams() throws Exception {
+        int[] singleByteReads = new int[1];
+        ByteArrayInputStream in = new ByteArrayInputStream(body(20_000)) {
+            @Override
+            public synchronized int read() {
+                singleByteReads[0]++;
+                return super.read();
+            }
+        };
+        BodyLease lease = new BodyLease(new BufferPool(true, 4));
+        try {
+            assertThat(lease.read(in, -1).length()).isEqualTo(20_000);
+            assertThat(singleByteReads[0]).isLessThan(10);
+        } finally {
+            lease.release();
+        }
+    }
+
+    private static byte[] body(int length) {
+        byte[] body = new byte[length];
+        Arrays.fill(body, (byte) 'a');
+        return body;
+    }
+}
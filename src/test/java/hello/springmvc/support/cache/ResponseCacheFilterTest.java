@@ -0,0 +1,178 @@
+package hello.springmvc.support.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private static final String PATTERN = "/items/{id}";
+
+    private final ResponseCache cache = new ResponseCache(1024 * 1024);
+    private final AtomicInteger handled = new AtomicInteger();
+    private ResponseCacheFilter filter;
+    private HandlerMethod handlerMethod;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.refresh();
+        RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+        mapping.setPatternParser(new PathPatternParser());
+        mapping.setApplicationContext(context);
+        mapping.afterPropertiesSet();
+        Method method = Handlers.class.getMethod("item", String.class);
+        mapping.registerMapping(RequestMappingInfo.paths(PATTERN).methods(RequestMethod.GET)
+                .options(mapping.getBuilderConfiguration()).build(), new Handlers(), method);
+        handlerMethod = new HandlerMethod(new Handlers(), method);
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("mapping", mapping));
+        filter = new ResponseCacheFilter(cache, beanFactory.getBeanProvider(RequestMappingHandlerMapping.class));
+    }
+
+    @Test
+    void normalizesPath() {
+        assertThat(ResponseCacheFilter.normalizePath(request("GET", "//items//a/"))).isEqualTo("/items/a");
+        assertThat(ResponseCacheFilter.normalizePath(request("GET", "/"))).isEqualTo("/");
+        MockHttpServletRequest withContext = request("GET", "/app/items/a");
+        withContext.setContextPath("/app");
+        assertThat(ResponseCacheFilter.normalizePath(withContext)).isEqualTo("/items/a");
+    }
+
+    // 매핑처럼 디코딩한 값 기준 => 같은 자원은 같은 키, 디코딩된 ? / 는 다시 인코딩
+    @Test
+    void normalizesDecodedPath() {
+        assertThat(ResponseCacheFilter.normalizePath(request("GET", "/items/a%62c"))).isEqualTo("/items/abc");
+        assertThat(ResponseCacheFilter.normalizePath(request("GET", "/items/%ED%95%9C"))).isEqualTo("/items/%ED%95%9C");
+        assertThat(ResponseCacheFilter.normalizePath(request("GET", "/items/a%3Fx=1"))).isEqualTo("/items/a%3Fx%3D1");
+        assertThat(ResponseCacheFilter.normalizePath(request("GET", "/items/a%2Fb"))).isEqualTo("/items/a%2Fb");
+        assertThat(ResponseCacheFilter.normalizePath(request("GET", "/items/%zz"))).isNull();
+    }
+
+    @Test
+    void keySortsQueryParameters() {
+        assertThat(ResponseCacheFilter.key("/items/a", null, null)).isEqualTo("/items/a");
+        assertThat(ResponseCacheFilter.key("/items/a", "", null)).isEqualTo("/items/a");
+        assertThat(ResponseCacheFilter.key("/items/a", "x=1", null)).isEqualTo("/items/a?x=1");
+        assertThat(ResponseCacheFilter.key("/items/a", "b=2&a=1", null))
+                .isEqualTo(ResponseCacheFilter.key("/items/a", "a=1&b=2", null));
+        assertThat(ResponseCacheFilter.key("/items/a", null, "*/*")).isEqualTo("/items/a");
+        assertThat(ResponseCacheFilter.key("/items/a", "x=1", "application/json"))
+                .isEqualTo("/items/a?x=1\napplication/json");
+    }
+
+    @Test
+    void invalidatePathRemovesPathQueriesAndSubPaths() {
+        for (String key : new String[]{"/items/a", "/items/a?x=1", "/items/a/orders", "/items/ab", "/items"}) {
+            cache.put(key, entry());
+        }
+        cache.put("/items/a\napplication/json", entry());
+        cache.invalidatePath("/items/a");
+
+        assertThat(cache.get("/items/a")).isNull();
+        assertThat(cache.get("/items/a?x=1")).isNull();
+        assertThat(cache.get("/items/a/orders")).isNull();
+        assertThat(cache.get("/items/ab")).isNotNull();
+        assertThat(cache.get("/items")).isNotNull();
+        assertThat(cache.get("/items/a\napplication/json")).isNull();
+        assertThat(cache.getInvalidations()).isEqualTo(4);
+    }
+
+    @Test
+    void hitSkipsHandlerAndKeepsMatchedPattern() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/items/a"), first, handler());
+        MockHttpServletRequest hitRequest = request("GET", "/items/a");
+        MockHttpServletResponse hit = new MockHttpServletResponse();
+        filter.doFilter(hitRequest, hit, handler());
+
+        assertThat(handled).hasValue(1);
+        assertThat(hit.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("item");
+        assertThat(hit.getContentType()).isEqualTo("text/plain;charset=UTF-8");
+        assertThat(hitRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)).isEqualTo(PATTERN);
+    }
+
+    @Test
+    void successfulPatchInvalidates() throws Exception {
+        filter.doFilter(request("GET", "/items/a"), new MockHttpServletResponse(), handler());
+        filter.doFilter(request("PATCH", "/items/a"), new MockHttpServletResponse(), (req, res) -> { });
+        filter.doFilter(request("GET", "/items/a"), new MockHttpServletResponse(), handler());
+
+        assertThat(handled).hasValue(2);
+    }
+
+    // 인코딩만 다른 경로로 변경해도 지워짐
+    @Test
+    void patchOnEncodedPathInvalidates() throws Exception {
+        filter.doFilter(request("GET", "/items/abc"), new MockHttpServletResponse(), handler());
+        filter.doFilter(request("PATCH", "/items/a%62c"), new MockHttpServletResponse(), (req, res) -> { });
+        filter.doFilter(request("GET", "/items/abc"), new MockHttpServletResponse(), handler());
+
+        assertThat(handled).hasValue(2);
+    }
+
+    // Accept 가 다르면 다른 항목 => JSON 으로 저장한 응답을 다른 클라이언트에게 주지 않음
+    @Test
+    void acceptSelectsTheEntry() throws Exception {
+        MockHttpServletRequest json = request("GET", "/items/a");
+        json.addHeader("Accept", "application/json");
+        MockHttpServletResponse jsonResponse = new MockHttpServletResponse();
+        filter.doFilter(json, jsonResponse, handler());
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/items/a"), plain, handler());
+        MockHttpServletRequest jsonAgain = request("GET", "/items/a");
+        jsonAgain.addHeader("Accept", "application/json");
+        MockHttpServletResponse jsonHit = new MockHttpServletResponse();
+        filter.doFilter(jsonAgain, jsonHit, handler());
+
+        assertThat(handled).hasValue(2);
+        assertThat(jsonResponse.getContentType()).isEqualTo("application/json");
+        assertThat(plain.getContentType()).isEqualTo("text/plain;charset=UTF-8");
+        assertThat(jsonHit.getContentType()).isEqualTo("application/json");
+    }
+
+    // 디스패처 대신 = 핸들러 매핑이 남기는 속성을 채우고 바디를 씀
+    private FilterChain handler() {
+        return (request, response) -> {
+            handled.incrementAndGet();
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+            // 메시지 컨버터처럼 Accept 에 맞춰 고름
+            boolean json = "application/json".equals(((HttpServletRequest) request).getHeader("Accept"));
+            response.setContentType(json ? "application/json" : "text/plain;charset=UTF-8");
+            response.getWriter().write(json ? "\"item\"" : "item");
+        };
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private static ResponseCache.Entry entry() {
+        return new ResponseCache.Entry(new byte[]{1}, "text/plain", PATTERN, 60);
+    }
+
+    static class Handlers {
+        @CacheableResponse
+        public String item(String id) {
+            return "item";
+        }
+    }
+}
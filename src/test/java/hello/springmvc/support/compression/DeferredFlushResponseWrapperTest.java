@@ -0,0 +1,44 @@
+package hello.springmvc.support.compression;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeferredFlushResponseWrapperTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final DeferredFlushResponseWrapper wrapper = new DeferredFlushResponseWrapper(request, response, 2048);
+
+    @Test
+    void flushBeforeThresholdIsDeferred() throws Exception {
+        PrintWriter writer = wrapper.getWriter();
+        writer.write("<html><head></head>");
+        writer.flush();
+        wrapper.flushBuffer();
+
+        assertThat(response.isCommitted()).isFalse();
+    }
+
+    @Test
+    void flushAfterThresholdCommits() throws Exception {
+        wrapper.getOutputStream().write(new byte[2048]);
+        wrapper.flushBuffer();
+
+        assertThat(response.isCommitted()).isTrue();
+    }
+
+    // @StreamingView = 첫 flush 에서 바로 나가야 함
+    @Test
+    void flushImmediatelyAttributeSkipsThreshold() throws Exception {
+        request.setAttribute(DeferredFlushFilter.FLUSH_IMMEDIATELY_ATTRIBUTE, Boolean.TRUE);
+        wrapper.getWriter().write("<html><head></head>");
+        wrapper.flushBuffer();
+
+        assertThat(response.isCommitted()).isTrue();
+    }
+}
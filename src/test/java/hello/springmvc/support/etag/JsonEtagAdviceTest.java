@@ -0,0 +1,116 @@
+package hello.springmvc.support.etag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springmvc.basic.HelloData;
+import hello.springmvc.support.json.JsonCodecRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class JsonEtagAdviceTest {
+
+    private static final String JSON = "{\"username\":\"hello\",\"age\":20}";
+
+    private final EtagStats stats = new EtagStats();
+    private final Handlers handlers = new Handlers();
+
+    @Test
+    void hashedEtagIsTheHashOfTheWrittenJson() throws Exception {
+        MvcResult result = mockMvc(false).perform(get("/hashed")).andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(JSON);
+        assertThat(result.getResponse().getContentLength()).isEqualTo(JSON.length());
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG))
+                .isEqualTo(Fnv64.etag(JSON.getBytes(StandardCharsets.UTF_8)));
+        assertThat(stats.hashed.sum()).isEqualTo(1);
+    }
+
+    @Test
+    void matchingHashIsNotModified() throws Exception {
+        MockMvc mvc = mockMvc(false);
+        String etag = mvc.perform(get("/hashed")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        MvcResult result = mvc.perform(get("/hashed").header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(304);
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(stats.hashNotModified.sum()).isEqualTo(1);
+    }
+
+    // 버전이 같으면 핸들러도 직렬화도 없이 304, 다르면 버전 ETag 를 달고 해시는 건너뜀
+    @Test
+    void etagVersionShortCircuitsBeforeTheHandler() throws Exception {
+        MockMvc mvc = mockMvc(false);
+        MvcResult changed = mvc.perform(get("/versioned").header(HttpHeaders.IF_NONE_MATCH, "\"0\"")).andReturn();
+        assertThat(changed.getResponse().getStatus()).isEqualTo(200);
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"1\"");
+        assertThat(changed.getResponse().getContentAsString()).isEqualTo(JSON);
+        assertThat(stats.hashed.sum()).isZero();
+
+        MvcResult same = mvc.perform(get("/versioned").header(HttpHeaders.IF_NONE_MATCH, "\"1\"")).andReturn();
+        assertThat(same.getResponse().getStatus()).isEqualTo(304);
+        assertThat(same.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(handlers.versionedCalls).hasValue(1);
+        assertThat(stats.versionNotModified.sum()).isEqualTo(1);
+    }
+
+    // 응답 압축이 켜져 있으면 약한 ETag (톰캣이 강한 ETag 응답은 압축하지 않음)
+    @Test
+    void compressionSwitchesToWeakEtags() throws Exception {
+        MockMvc mvc = mockMvc(true);
+        String hashed = mvc.perform(get("/hashed")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(hashed).isEqualTo("W/" + Fnv64.etag(JSON.getBytes(StandardCharsets.UTF_8)));
+        assertThat(mvc.perform(get("/hashed").header(HttpHeaders.IF_NONE_MATCH, hashed)).andReturn()
+                .getResponse().getStatus()).isEqualTo(304);
+
+        MvcResult versioned = mvc.perform(get("/versioned")).andReturn();
+        assertThat(versioned.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"1\"");
+        assertThat(mvc.perform(get("/versioned").header(HttpHeaders.IF_NONE_MATCH, "W/\"1\"")).andReturn()
+                .getResponse().getStatus()).isEqualTo(304);
+    }
+
+    private MockMvc mockMvc(boolean weak) {
+        return MockMvcBuilders.standaloneSetup(handlers)
+                .setControllerAdvice(new JsonEtagAdvice(new JsonCodecRegistry(new ObjectMapper()), stats, weak))
+                .addInterceptors(new EtagVersionInterceptor(stats, weak))
+                .build();
+    }
+
+    @RestController
+    static class Handlers {
+
+        final AtomicInteger versionedCalls = new AtomicInteger();
+
+        @HashedEtag
+        @GetMapping("/hashed")
+        public HelloData hashed() {
+            return hello();
+        }
+
+        @EtagVersion("1")
+        @HashedEtag
+        @GetMapping("/versioned")
+        public HelloData versioned() {
+            versionedCalls.incrementAndGet();
+            return hello();
+        }
+
+        private static HelloData hello() {
+            HelloData data = new HelloData();
+            data.setUsername("hello");
+            data.setAge(20);
+            return data;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package hello.springmvc.support.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springmvc.basic.HelloData;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonRecordWriterTest {
+
+    private final JsonRecordWriter writer = new JsonRecordWriter(new JsonCodecRegistry(new ObjectMapper()), 1000);
+
+    @Test
+    void arrayFraming() throws IOException {
+        assertThat(array(Collections.emptyIterator())).isEqualTo("[]");
+        assertThat(array(List.of(hello("a", 1)).iterator())).isEqualTo("[{\"username\":\"a\",\"age\":1}]");
+        assertThat(array(List.of(hello("a", 1), hello("b", 2)).iterator()))
+                .isEqualTo("[{\"username\":\"a\",\"age\":1},{\"username\":\"b\",\"age\":2}]");
+    }
+
+    // 줄바꿈은 레코드 사이 + 마지막 뒤에만 => 0 건이면 빈 바디
+    @Test
+    void ndjsonFraming() throws IOException {
+        assertThat(lines(Collections.emptyIterator())).isEmpty();
+        assertThat(lines(List.of(hello("a", 1)).iterator())).isEqualTo("{\"username\":\"a\",\"age\":1}\n");
+        assertThat(lines(List.of(hello("a", 1), hello("b", 2)).iterator()))
+                .isEqualTo("{\"username\":\"a\",\"age\":1}\n{\"username\":\"b\",\"age\":2}\n");
+    }
+
+    // flush-every=0 => 0 으로 나누지 않고 한 건마다 flush
+    @Test
+    void nonPositiveFlushEveryFlushesEachRecord() throws IOException {
+        JsonRecordWriter eachRecord = new JsonRecordWriter(new JsonCodecRegistry(new ObjectMapper()), 0);
+        CountingFlushes out = new CountingFlushes();
+        long count = eachRecord.writeLines(out, List.of(hello("a", 1), hello("b", 2), hello("c", 3)).iterator(), HelloData.class);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(out.flushes).isGreaterThanOrEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).hasLineCount(3);
+    }
+
+    private String array(Iterator<HelloData> records) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeArray(out, records, HelloData.class);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String lines(Iterator<HelloData> records) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeLines(out, records, HelloData.class);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static HelloData hello(String username, int age) {
+        HelloData data = new HelloData();
+        data.setUsername(username);
+        data.setAge(age);
+        return data;
+    }
+
+    static final class CountingFlushes extends ByteArrayOutputStream {
+
+        int flushes;
+
+        @Override
+        public void flush() throws IOException {
+            flushes++;
+            super.flush();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package hello.springmvc.support.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final CollectingAppender target = new CollectingAppender();
+    private final RingBufferAsyncAppender appender = new RingBufferAsyncAppender();
+
+    @AfterEach
+    void tearDown() {
+        target.release();
+        appender.stop();
+    }
+
+    @Test
+    void keepsOrderPerProducer() throws Exception {
+        start(1024, OverflowPolicy.BLOCK);
+        int producers = 4;
+        int perProducer = 5_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String name = "p" + p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    appender.doAppend(event(Level.INFO, name + ":" + i));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        appender.stop();
+
+        List<String> messages = target.messages();
+        assertThat(messages).hasSize(producers * perProducer);
+        for (int p = 0; p < producers; p++) {
+            int expected = 0;
+            for (String message : messages) {
+                if (message.startsWith("p" + p + ":")) {
+                    assertThat(message).isEqualTo("p" + p + ":" + expected++);
+                }
+            }
+            assertThat(expected).isEqualTo(perProducer);
+        }
+        assertThat(appender.getDroppedCount()).isZero();
+        assertThat(appender.getWrittenCount()).isEqualTo(producers * perProducer);
+    }
+
+    // 쓰기 쓰레드가 막혀서 버퍼가 가득 참 => INFO 는 버리고, WARN 은 자리가 날 때까지 기다림
+    @Test
+    void dropPolicyDiscardsInfoButKeepsWarn() throws Exception {
+        start(4, OverflowPolicy.DROP);
+        fillWhileWriterIsBlocked(4);
+        for (int i = 0; i < 10; i++) {
+            appender.doAppend(event(Level.INFO, "dropped" + i));
+        }
+        assertThat(appender.getDroppedCount()).isEqualTo(10);
+
+        Thread warn = new Thread(() -> appender.doAppend(event(Level.WARN, "warn")));
+        warn.start();
+        warn.join(200);
+        assertThat(warn.isAlive()).as("WARN waits for a free slot").isTrue();
+
+        target.release();
+        warn.join(5_000);
+        appender.stop();
+        assertThat(target.messages()).hasSize(6).contains("warn").noneMatch(m -> m.startsWith("dropped"));
+    }
+
+    @Test
+    void blockPolicyWaitsInsteadOfDropping() throws Exception {
+        start(4, OverflowPolicy.BLOCK);
+        fillWhileWriterIsBlocked(4);
+        Thread producer = new Thread(() -> appender.doAppend(event(Level.DEBUG, "blocked")));
+        producer.start();
+        producer.join(200);
+        assertThat(producer.isAlive()).isTrue();
+
+        target.release();
+        producer.join(5_000);
+        appender.stop();
+        assertThat(appender.getDroppedCount()).isZero();
+        assertThat(target.messages()).hasSize(6).endsWith("blocked");
+    }
+
+    @Test
+    void stopDrainsQueuedEvents() throws Exception {
+        start(8192, OverflowPolicy.BLOCK);
+        fillWhileWriterIsBlocked(1000);
+        target.releaseLater(50);
+
+        appender.stop();
+        assertThat(target.messages()).hasSize(1001);
+        assertThat(appender.getQueueDepth()).isZero();
+    }
+
+    // 로그가 없으면 쓰기 쓰레드는 시간 제한 없이 잠들고 (WAITING), 새 이벤트가 오면 바로 깨어남
+    @Test
+    void idleWriterParksUntilAnEventArrives() throws Exception {
+        start(64, OverflowPolicy.DROP);
+        Thread writer = writerThread();
+        awaitState(writer, Thread.State.WAITING);
+
+        appender.doAppend(event(Level.INFO, "wake"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.messages().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(target.messages()).containsExactly("wake");
+        awaitState(writer, Thread.State.WAITING);
+    }
+
+    private void start(int capacity, OverflowPolicy policy) {
+        target.setContext(context);
+        target.start();
+        appender.setContext(context);
+        appender.setName("test-" + System.nanoTime());
+        appender.setCapacity(capacity);
+        appender.setOverflowPolicy(policy);
+        appender.addAppender(target);
+        appender.start();
+    }
+
+    // 첫 이벤트를 쓰는 중에 쓰기 쓰레드를 막아두고, 그동안 버퍼에 count 개를 채움
+    private void fillWhileWriterIsBlocked(int count) throws InterruptedException {
+        target.block();
+        appender.doAppend(event(Level.INFO, "first"));
+        assertThat(target.awaitBlocked()).isTrue();
+        for (int i = 0; i < count; i++) {
+            appender.doAppend(event(Level.INFO, "queued" + i));
+        }
+        assertThat(appender.getQueueDepth()).isEqualTo(count);
+    }
+
+    private Thread writerThread() {
+        String name = "log-writer-" + appender.getName();
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(thread.getState()).isEqualTo(state);
+    }
+
+    private ILoggingEvent event(Level level, String message) {
+        return new LoggingEvent(getClass().getName(), logger, level, message, null, null);
+    }
+
+    // 받은 메시지를 모으고, block() 하면 다음 이벤트에서 release() 까지 멈춤
+    static final class CollectingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicBoolean blockNext = new AtomicBoolean();
+        private volatile CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            messages.add(event.getFormattedMessage());
+            if (blockNext.compareAndSet(true, false)) {
+                blocked.countDown();
+                try {
+                    gate.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        void block() {
+            blocked = new CountDownLatch(1);
+            gate = new CountDownLatch(1);
+            blockNext.set(true);
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(5, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void releaseLater(long millis) {
+            Thread thread = new Thread(() -> {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                release();
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        List<String> messages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+}
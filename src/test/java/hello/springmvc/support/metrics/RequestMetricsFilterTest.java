@@ -0,0 +1,100 @@
+package hello.springmvc.support.metrics;
+
+import hello.springmvc.basic.request02.RequestBodyStringControler03;
+import hello.springmvc.support.buffer.BufferLeaseInterceptor;
+import hello.springmvc.support.buffer.BufferPool;
+import hello.springmvc.support.buffer.TextBodyArgumentResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestMetricsFilterTest {
+
+    private static final String BODY = "hello".repeat(2000);
+
+    private final RequestMetrics metrics = new RequestMetrics();
+    private final StreamCapturingResolver resolver = new StreamCapturingResolver(new BufferPool(true, 4));
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new RequestBodyStringControler03())
+            .setCustomArgumentResolvers(resolver)
+            .addInterceptors(new BufferLeaseInterceptor())
+            .addFilters(new RequestMetricsFilter(metrics))
+            .build();
+
+    // Content-Length 가 있으면 필터가 스트림을 감싸지 않음 => TextBody 는 컨테이너 스트림을 그대로 읽음
+    @Test
+    void sizedBodyKeepsTheContainerStream() throws Exception {
+        MockHttpServletRequest[] sent = new MockHttpServletRequest[1];
+        mvc.perform(post("/request-body-string-v5").content(BODY).with(request -> sent[0] = request))
+                .andExpect(status().isOk())
+                .andExpect(content().string("ok"));
+
+        assertThat(resolver.stream).isSameAs(sent[0].getInputStream());
+        assertThat(requestBytes()).contains("} " + BODY.length());
+    }
+
+    // chunked = 감싼 스트림으로 세면서 읽음 (direct 버퍼여도 덩어리째)
+    @Test
+    void chunkedBodyIsCounted() throws Exception {
+        mvc.perform(post("/request-body-string-v5").content(BODY).with(RequestMetricsFilterTest::chunked))
+                .andExpect(status().isOk())
+                .andExpect(content().string("ok"));
+
+        assertThat(resolver.stream.getClass().getEnclosingClass()).isEqualTo(CountingRequestWrapper.class);
+        assertThat(requestBytes()).contains("} " + BODY.length());
+    }
+
+    private String requestBytes() {
+        MetricsWriter writer = new MetricsWriter();
+        metrics.contribute(writer);
+        return writer.toString().lines()
+                .filter(line -> line.startsWith("http_server_request_bytes_total{"))
+                .findFirst().orElseThrow();
+    }
+
+    private static MockHttpServletRequest chunked(MockHttpServletRequest sized) {
+        MockHttpServletRequest request = new MockHttpServletRequest(sized.getServletContext(), "POST", sized.getRequestURI()) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // 핸들러가 받은 요청의 입력 스트림을 기억
+    static final class StreamCapturingResolver extends TextBodyArgumentResolver {
+
+        ServletInputStream stream;
+
+        StreamCapturingResolver(BufferPool bufferPool) {
+            super(bufferPool);
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+            stream = webRequest.getNativeRequest(HttpServletRequest.class).getInputStream();
+            return super.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package hello.springmvc.support.route;
+
+import hello.springmvc.basic.requestmapping01.MappingClassController;
+import hello.springmvc.basic.requestmapping01.MappingController01;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.condition.MediaTypeExpression;
+import org.springframework.web.servlet.mvc.condition.NameValueExpression;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 트라이가 찾은 핸들러 / 속성 / 예외(405, 406, 415, 400) 가 원래 RequestMappingHandlerMapping 과 같은지 */
+class TrieRequestMappingHandlerMappingTest {
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{(\\w+)(?::[^}]*)?}");
+
+    private TrieRequestMappingHandlerMapping trie;
+    private RequestMappingHandlerMapping plain;
+
+    @BeforeEach
+    void setUp() {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.registerSingleton("mappingController01", MappingController01.class);
+        context.registerSingleton("mappingClassController", MappingClassController.class);
+        context.registerSingleton("routes", Routes.class);
+        context.refresh();
+        // 부트 2.6+ 기본 (spring.mvc.pathmatch.matching-strategy=path_pattern_parser) = 트라이는 이 방식에서만 동작
+        trie = new TrieRequestMappingHandlerMapping();
+        trie.setPatternParser(new PathPatternParser());
+        trie.setApplicationContext(context);
+        trie.afterPropertiesSet();
+        plain = new RequestMappingHandlerMapping();
+        plain.setPatternParser(new PathPatternParser());
+        plain.setApplicationContext(context);
+        plain.afterPropertiesSet();
+    }
+
+    @Test
+    void everyMappingResolvesLikeTheDefaultLookup() throws Exception {
+        List<MockHttpServletRequest> requests = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, ?> entry : plain.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            for (String pattern : info.getPatternValues()) {
+                for (RequestMethod method : methods.isEmpty() ? Set.of(RequestMethod.GET) : methods) {
+                    String path = path(pattern);
+                    requests.add(matching(method.name(), path, info));
+                    requests.add(matching(method.name(), path + "/", info)); // 끝 "/"
+                    requests.add(request(method.name(), path)); // 조건 헤더 / 파라미터 없이
+                    requests.add(request("HEAD", path));
+                    requests.add(request("OPTIONS", path));
+                }
+            }
+        }
+        assertThat(plain.getHandlerMethods()).hasSizeGreaterThan(15);
+
+        for (MockHttpServletRequest request : requests) {
+            assertSameOutcome(request);
+        }
+        assertThat(trie.getTrieMatches()).isPositive();
+        assertThat(trie.getFallbacks()).isPositive();
+    }
+
+    @Test
+    void edgeCasesResolveLikeTheDefaultLookup() throws Exception {
+        assertSameOutcome(request("GET", "/fx/items/latest"));                      // 리터럴이 {id} 보다 먼저
+        assertSameOutcome(request("GET", "/fx/items/1/detail"));
+        assertSameOutcome(withParam(request("GET", "/fx/items/1/detail"), "mode", "debug"));
+        assertSameOutcome(request("GET", "/fx/items/a%20b"));
+        assertSameOutcome(request("GET", "/fx/items/1;v=2"));
+        assertSameOutcome(request("GET", "//fx/items"));
+        assertSameOutcome(request("GET", "/fx/codes/abc"));
+        assertSameOutcome(request("GET", "/fx/codes/123"));                         // 정규식 불일치 = 404
+        assertSameOutcome(request("GET", "/fx/files/a/b/c.txt"));
+        assertSameOutcome(request("GET", "/fx/nothing"));
+        assertSameOutcome(request("PUT", "/fx/items"));                             // 405
+        assertSameOutcome(request("PUT", "/mapping/users/userA"));                  // 405 (트라이 매핑)
+        assertSameOutcome(request("TRACE", "/fx/any"));
+        assertSameOutcome(accept(request("GET", "/fx/items/1"), "image/png"));      // 406
+        assertSameOutcome(accept(request("GET", "/fx/items/1"), "text/plain"));
+        assertSameOutcome(contentType(request("POST", "/fx/items"), "application/xml")); // 415
+        assertSameOutcome(contentType(request("POST", "/fx/items"), "text/plain"));
+    }
+
+    @Test
+    void trieHandlesPlainPathVariables() throws Exception {
+        long before = trie.getTrieMatches();
+        Outcome outcome = assertSameOutcome(request("GET", "/mapping/users/userA/orders/100"));
+
+        assertThat(trie.getTrieMatches()).isEqualTo(before + 1);
+        assertThat(outcome.pattern).isEqualTo("/mapping/users/{userId}/orders/{orderId}");
+        assertThat(outcome.variables).isEqualTo(Map.of("userId", "userA", "orderId", "100"));
+    }
+
+    private Outcome assertSameOutcome(MockHttpServletRequest request) throws Exception {
+        Outcome expected = lookup(plain, copy(request));
+        Outcome actual = lookup(trie, copy(request));
+        assertThat(actual).as(request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString()).isEqualTo(expected);
+        return actual;
+    }
+
+    private static Outcome lookup(RequestMappingHandlerMapping mapping, MockHttpServletRequest request) {
+        ServletRequestPathUtils.parseAndCache(request);
+        try {
+            HandlerExecutionChain chain = mapping.getHandler(request);
+            if (chain == null) {
+                return new Outcome("none", null, null);
+            }
+            Map<?, ?> variables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            return new Outcome(chain.getHandler().toString(),
+                    (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                    variables == null ? null : new HashMap<>(variables));
+        } catch (Exception e) {
+            return new Outcome(e.getClass().getSimpleName(), null, null);
+        }
+    }
+
+    // 매핑 조건(params / headers / produces / consumes) 을 만족하는 요청
+    private static MockHttpServletRequest matching(String method, String path, RequestMappingInfo info) {
+        MockHttpServletRequest request = request(method, path);
+        for (NameValueExpression<String> param : info.getParamsCondition().getExpressions()) {
+            if (!param.isNegated()) {
+                withParam(request, param.getName(), Objects.toString(param.getValue(), "x"));
+            }
+        }
+        for (NameValueExpression<String> header : info.getHeadersCondition().getExpressions()) {
+            if (!header.isNegated()) {
+                request.addHeader(header.getName(), Objects.toString(header.getValue(), "x"));
+            }
+        }
+        for (MediaTypeExpression produces : info.getProducesCondition().getExpressions()) {
+            if (!produces.isNegated()) {
+                accept(request, produces.getMediaType().toString());
+                break;
+            }
+        }
+        for (MediaTypeExpression consumes : info.getConsumesCondition().getExpressions()) {
+            if (!consumes.isNegated() && consumes.getMediaType().isConcrete()) {
+                contentType(request, consumes.getMediaType().toString());
+                break;
+            }
+        }
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private static MockHttpServletRequest withParam(MockHttpServletRequest request, String name, String value) {
+        request.addParameter(name, value);
+        String pair = name + "=" + value;
+        request.setQueryString(request.getQueryString() == null ? pair : request.getQueryString() + "&" + pair);
+        return request;
+    }
+
+    private static MockHttpServletRequest accept(MockHttpServletRequest request, String accept) {
+        request.addHeader("Accept", accept);
+        return request;
+    }
+
+    private static MockHttpServletRequest contentType(MockHttpServletRequest request, String contentType) {
+        request.setContentType(contentType);
+        request.addHeader("Content-Type", contentType);
+        return request;
+    }
+
+    // 두 매핑이 같은 요청 객체의 속성을 공유하지 않도록
+    private static MockHttpServletRequest copy(MockHttpServletRequest source) {
+        MockHttpServletRequest request = request(source.getMethod(), source.getRequestURI());
+        request.setQueryString(source.getQueryString());
+        request.setParameters(source.getParameterMap());
+        if (source.getContentType() != null) {
+            contentType(request, source.getContentType());
+        }
+        for (String name : List.of("Accept", "X-Mode")) {
+            if (source.getHeader(name) != null) {
+                request.addHeader(name, source.getHeader(name));
+            }
+        }
+        return request;
+    }
+
+    // /mapping/users/{userId}/orders/{orderId} => /mapping/users/userA/orders/1
+    private static String path(String pattern) {
+        Matcher matcher = PATH_VARIABLE.matcher(pattern.replace("/**", "/a/b"));
+        StringBuilder path = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(path, matcher.group(1).equals("userId") ? "userA" : matcher.group(1).equals("code") ? "abc" : "1");
+        }
+        matcher.appendTail(path);
+        return path.toString();
+    }
+
+    private static final class Outcome {
+        final String handler;
+        final String pattern;
+        final Map<?, ?> variables;
+
+        Outcome(String handler, String pattern, Map<?, ?> variables) {
+            this.handler = handler;
+            this.pattern = pattern;
+            this.variables = variables;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Outcome)) {
+                return false;
+            }
+            Outcome other = (Outcome) o;
+            return handler.equals(other.handler) && Objects.equals(pattern, other.pattern)
+                    && Objects.equals(variables, other.variables);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(handler, pattern, variables);
+        }
+
+        @Override
+        public String toString() {
+            return handler + " " + pattern + " " + variables;
+        }
+    }
+
+    @RestController
+    @RequestMapping("/fx")
+    static class Routes {
+
+        @GetMapping("/items")
+        public String list() {
+            return "list";
+        }
+
+        @PostMapping(value = "/items", consumes = "application/json")
+        public String createJson() {
+            return "json";
+        }
+
+        @PostMapping(value = "/items", consumes = "text/plain")
+        public String createText() {
+            return "text";
+        }
+
+        @GetMapping("/items/latest")
+        public String latest() {
+            return "latest";
+        }
+
+        @GetMapping(value = "/items/{id}", produces = "application/json")
+        public String itemJson(@PathVariable String id) {
+            return id;
+        }
+
+        @GetMapping(value = "/items/{id}", produces = "text/plain")
+        public String itemText(@PathVariable String id) {
+            return id;
+        }
+
+        @DeleteMapping("/items/{id}")
+        public String delete(@PathVariable String id) {
+            return id;
+        }
+
+        @GetMapping("/items/{id}/detail")
+        public String detail(@PathVariable String id) {
+            return id;
+        }
+
+        @GetMapping(value = "/items/{id}/detail", params = "mode=debug")
+        public String debugDetail(@PathVariable String id) {
+            return id;
+        }
+
+        @GetMapping(value = "/items/{id}/detail", headers = "X-Mode=fast")
+        public String fastDetail(@PathVariable String id) {
+            return id;
+        }
+
+        @GetMapping("/codes/{code:[a-z]+}")
+        public String code(@PathVariable String code) {
+            return code;
+        }
+
+        @GetMapping("/files/**")
+        public String files() {
+            return "files";
+        }
+
+        @RequestMapping("/any")
+        public String any() {
+            return "any";
+        }
+
+        @GetMapping("/users/{userId}/orders/{orderId}")
+        public String order(@PathVariable String userId, @PathVariable long orderId) {
+            return userId + orderId;
+        }
+    }
+}
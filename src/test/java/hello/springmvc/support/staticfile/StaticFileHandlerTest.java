@@ -0,0 +1,221 @@
+package hello.springmvc.support.staticfile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.mvc.HttpRequestHandlerAdapter;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class StaticFileHandlerTest {
+
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    @TempDir
+    Path dir;
+
+    private AnnotationConfigWebApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void ifNoneMatchIsNotModified() throws Exception {
+        StaticFileHandler handler = new StaticFileHandler(false);
+        MockHttpServletRequest request = request(file("a.txt", "hello", "\"a\""));
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"a\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(handler.getNotModified()).isEqualTo(1);
+    }
+
+    @Test
+    void ifModifiedSinceIsNotModified() throws Exception {
+        StaticFileHandler handler = new StaticFileHandler(false);
+        MockHttpServletRequest request = request(file("a.txt", "hello", "\"a\""));
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(handler.getNotModified()).isEqualTo(1);
+
+        MockHttpServletRequest older = request(file("a.txt", "hello", "\"a\""));
+        older.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED - 1000);
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+        handler.handleRequest(older, changed);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getContentAsString()).isEqualTo("hello");
+    }
+
+    // br 을 먼저, 그다음 gzip, 둘 다 아니면 원본 => 어느 쪽이든 Vary: Accept-Encoding
+    @Test
+    void selectsPrecompressedVariant() throws Exception {
+        StaticFileHandler handler = new StaticFileHandler(true);
+        StaticFile original = withVariants();
+
+        MockHttpServletResponse br = handle(handler, original, "gzip, deflate, br");
+        assertThat(br.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+        assertThat(br.getContentAsString()).isEqualTo("br-body");
+        assertThat(br.getHeader(HttpHeaders.ETAG)).isEqualTo("\"br\"");
+        assertThat(br.getContentType()).startsWith("text/plain");
+
+        MockHttpServletResponse gzip = handle(handler, original, "GZIP");
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getContentAsString()).isEqualTo("gz-body");
+        assertThat(gzip.getHeader(HttpHeaders.ETAG)).isEqualTo("\"gz\"");
+
+        MockHttpServletResponse identity = handle(handler, original, null);
+        assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getContentAsString()).isEqualTo("plain-body");
+        assertThat(identity.getHeader(HttpHeaders.ETAG)).isEqualTo("\"plain\"");
+
+        for (MockHttpServletResponse response : List.of(br, gzip, identity)) {
+            assertThat(response.getHeaders(HttpHeaders.VARY)).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    // .gz/.br 이 없는 파일 + 응답 압축 켜짐 = 톰캣이 압축할 수 있게 약한 ETag
+    @Test
+    void weakEtagOnlyWhenTomcatMayCompress() throws Exception {
+        StaticFile plain = file("a.txt", "hello", "\"a\"");
+
+        MockHttpServletResponse compressed = handle(new StaticFileHandler(true), plain, null);
+        assertThat(compressed.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"a\"");
+        assertThat(compressed.getHeader(HttpHeaders.VARY)).isNull();
+
+        MockHttpServletResponse uncompressed = handle(new StaticFileHandler(false), plain, null);
+        assertThat(uncompressed.getHeader(HttpHeaders.ETAG)).isEqualTo("\"a\"");
+
+        StaticFileHandler handler = new StaticFileHandler(true);
+        MockHttpServletRequest request = request(plain);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"a\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    // 목록에 있는 GET 만 StaticFileHandler, 나머지는 원래 리소스 핸들러
+    @Test
+    void fallsThroughToResourceHandler() throws Exception {
+        MockMvc mvc = mockMvc();
+
+        MvcResult served = mvc.perform(get("/index.html")).andReturn();
+        assertThat(served.getHandler()).isInstanceOf(StaticFileHandler.class);
+        assertThat(served.getResponse().getStatus()).isEqualTo(200);
+
+        MvcResult range = mvc.perform(get("/index.html").header(HttpHeaders.RANGE, "bytes=0-9")).andReturn();
+        assertThat(range.getHandler()).isInstanceOf(ResourceHttpRequestHandler.class);
+        assertThat(range.getResponse().getStatus()).isEqualTo(206);
+        assertThat(range.getResponse().getContentAsByteArray()).hasSize(10);
+
+        MvcResult postRequest = mvc.perform(post("/index.html")).andReturn();
+        assertThat(postRequest.getHandler()).isInstanceOf(ResourceHttpRequestHandler.class);
+        assertThat(postRequest.getResponse().getStatus()).isEqualTo(405);
+
+        MvcResult unknown = mvc.perform(get("/no-such-file.txt")).andReturn();
+        assertThat(unknown.getHandler()).isInstanceOf(ResourceHttpRequestHandler.class);
+        assertThat(unknown.getResponse().getStatus()).isEqualTo(404);
+    }
+
+    private MockMvc mockMvc() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(MappingConfig.class);
+        context.refresh();
+        return MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    private MockHttpServletResponse handle(StaticFileHandler handler, StaticFile file, String acceptEncoding) throws IOException {
+        MockHttpServletRequest request = request(file);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        assertThat(response.getStatus()).isEqualTo(200);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(StaticFile file) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/a.txt");
+        request.setAttribute(StaticFileHandler.STATIC_FILE_ATTRIBUTE, file);
+        return request;
+    }
+
+    private StaticFile withVariants() throws IOException {
+        StaticFile original = file("b.txt", "plain-body", "\"plain\"");
+        original.gzip = file("b.txt.gz", "gz-body", "\"gz\"");
+        original.br = file("b.txt.br", "br-body", "\"br\"");
+        return original;
+    }
+
+    // 매핑하지 않은 파일 = transferTo 로 보냄
+    private StaticFile file(String name, String content, String etag) throws IOException {
+        Path path = Files.write(dir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+        return new StaticFile(path, MediaType.TEXT_PLAIN, Files.size(path), LAST_MODIFIED, etag, null);
+    }
+
+    // 애플리케이션과 같은 순서: StaticFileHandlerMapping => /** 리소스 핸들러 (classpath:/static/)
+    @Configuration
+    static class MappingConfig {
+
+        @Bean
+        StaticFileRegistry staticFileRegistry() throws IOException {
+            return new StaticFileRegistry(DataSize.ofKilobytes(64), "");
+        }
+
+        @Bean
+        StaticFileHandlerMapping staticFileHandlerMapping(StaticFileRegistry registry) {
+            return new StaticFileHandlerMapping(registry, new StaticFileHandler(false));
+        }
+
+        @Bean
+        ResourceHttpRequestHandler resourceHandler() {
+            ResourceHttpRequestHandler handler = new ResourceHttpRequestHandler();
+            handler.setLocations(List.of(new ClassPathResource("static/")));
+            return handler;
+        }
+
+        @Bean
+        SimpleUrlHandlerMapping resourceHandlerMapping(ResourceHttpRequestHandler resourceHandler) {
+            return new SimpleUrlHandlerMapping(Map.of("/**", resourceHandler), Integer.MAX_VALUE - 1);
+        }
+
+        @Bean
+        HttpRequestHandlerAdapter httpRequestHandlerAdapter() {
+            return new HttpRequestHandlerAdapter();
+        }
+    }
+}